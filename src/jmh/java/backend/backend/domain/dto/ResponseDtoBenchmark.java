@@ -0,0 +1,119 @@
+package backend.backend.domain.dto;
+
+import backend.backend.domain.Comment;
+import backend.backend.domain.Member;
+import backend.backend.domain.Post;
+import backend.backend.domain.common.BaseEntity;
+import backend.backend.domain.dto.commentDto.CommentResponseDto;
+import backend.backend.domain.dto.postDto.PostResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 한 페이지(20건) 응답을 만드는 비용.
+ * 엔티티 -> DTO 변환과 Response<Page<PostResponseDto>> 의 Jackson 직렬화를 나누어 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseDtoBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private List<Post> posts;
+    private List<Comment> comments;
+    private Response<Page<PostResponseDto>> postPageResponse;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        Member member = Member.builder()
+                .id(1L)
+                .email("test@test.com")
+                .password("password")
+                .nickName("테스터")
+                .emoji("😀")
+                .build();
+        posts = new ArrayList<>();
+        comments = new ArrayList<>();
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            Post post = Post.builder()
+                    .id(id)
+                    .title("제목 " + id)
+                    .content("게시글 내용 " + id)
+                    .member(member)
+                    .comments(new ArrayList<>())
+                    .likeCount(3)
+                    .commentCount(2)
+                    .build();
+            setAuditDates(post);
+            posts.add(post);
+
+            Comment comment = Comment.builder()
+                    .id(id)
+                    .content("댓글 " + id)
+                    .nickname("테스터")
+                    .post(post)
+                    .member(member)
+                    .depth(0)
+                    .children(new ArrayList<>())
+                    .build();
+            setAuditDates(comment);
+            comments.add(comment);
+        }
+
+        postPageResponse = Response.ok(new PageImpl<>(toPostDtos(), PageRequest.of(0, PAGE_SIZE), 1_000));
+        // 스프링 부트와 같은 방식(Jackson2ObjectMapperBuilder)으로 만들어 JavaTimeModule 등을 등록한다.
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    private void setAuditDates(BaseEntity entity) throws ReflectiveOperationException {
+        LocalDateTime now = LocalDateTime.now();
+        for (String name : new String[]{"createdAt", "updatedAt"}) {
+            Field field = BaseEntity.class.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(entity, now);
+        }
+    }
+
+    private List<PostResponseDto> toPostDtos() {
+        List<PostResponseDto> dtos = new ArrayList<>(posts.size());
+        for (Post post : posts) {
+            dtos.add(new PostResponseDto(post));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<PostResponseDto> postResponseDtoPage() {
+        return toPostDtos();
+    }
+
+    @Benchmark
+    public List<CommentResponseDto> commentResponseDtoPage() {
+        List<CommentResponseDto> dtos = new ArrayList<>(comments.size());
+        for (Comment comment : comments) {
+            dtos.add(new CommentResponseDto(comment, (Long) null));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public byte[] serializePostPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(postPageResponse);
+    }
+}
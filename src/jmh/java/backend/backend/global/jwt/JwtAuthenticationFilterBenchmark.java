@@ -0,0 +1,75 @@
+package backend.backend.global.jwt;
+
+import backend.backend.domain.Member;
+import backend.backend.global.jwt.filter.JwtAuthenticationProcessingFilter;
+import backend.backend.repository.MemberRepository;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증이 필요한 요청 한 건이 JWT 필터를 통과하는 비용. (토큰 추출 + 서명 검증 + 회원 정보 캐시 조회 + SecurityContext 저장)
+ * 회원 정보 캐시는 적중 상태이며, 필터 체인 뒤쪽은 비어 있다.
+ * mode 가 proxied/classTransactional 이면 애플리케이션 빈처럼 트랜잭션 프록시를 거친 JwtService 를 쓴다. (JwtServiceFixture)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain EMPTY_CHAIN = (request, response) -> { };
+
+    @Param({"direct", "proxied", "classTransactional"})
+    private String mode;
+
+    private JwtServiceFixture fixture;
+    private JwtAuthenticationProcessingFilter filter;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        Member member = Member.builder()
+                .id(1L)
+                .email("test@test.com")
+                .password("password")
+                .nickName("테스터")
+                .emoji("😀")
+                .build();
+        // findByEmail 만 사용하는 회원 저장소
+        MemberRepository memberRepository = (MemberRepository) Proxy.newProxyInstance(
+                MemberRepository.class.getClassLoader(), new Class<?>[]{MemberRepository.class},
+                (proxy, method, args) -> method.getName().equals("findByEmail") ? Optional.of(member) : null);
+        PrincipalCache principalCache = new PrincipalCache(memberRepository, 300, 10_000);
+
+        fixture = new JwtServiceFixture(mode, memberRepository, principalCache);
+        JwtService jwtService = fixture.jwtService();
+
+        filter = new JwtAuthenticationProcessingFilter(jwtService, principalCache);
+        request = new MockHttpServletRequest("GET", "/api/post");
+        request.addHeader("Authorization", "Bearer " + jwtService.createAccessToken("test@test.com"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public Object authenticate() throws ServletException, IOException {
+        filter.doFilter(request, new MockHttpServletResponse(), EMPTY_CHAIN);
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+}
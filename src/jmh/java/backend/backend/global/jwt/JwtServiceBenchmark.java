@@ -0,0 +1,69 @@
+package backend.backend.global.jwt;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 요청 한 건에서 액세스 토큰을 검증하는 비용 비교.
+ * legacy: 요청마다 Algorithm/JWTVerifier 를 새로 만들고 isTokenValid + extractUsername 으로 두 번 검증
+ * current: 시작 시 만든 검증기로 한 번만 검증 (JwtServiceImpl.extractUsername)
+ * mode 로 애플리케이션 빈처럼 트랜잭션 프록시를 거쳐 호출할 수 있다. (JwtServiceFixture)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = JwtServiceFixture.SECRET;
+
+    @Param({"direct", "proxied", "classTransactional"})
+    private String mode;
+
+    private JwtServiceFixture fixture;
+    private JwtService jwtService;
+    private String accessToken;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        fixture = new JwtServiceFixture(mode, null, null);
+        jwtService = fixture.jwtService();
+        accessToken = jwtService.createAccessToken("test@test.com");
+    }
+
+    @TearDown
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public String legacyVerifyTwice() {
+        JWT.require(Algorithm.HMAC512(SECRET)).build().verify(accessToken);
+        return JWT.require(Algorithm.HMAC512(SECRET)).build().verify(accessToken).getClaim("username").asString();
+    }
+
+    @Benchmark
+    public String verifyOnce() {
+        return jwtService.extractUsername(accessToken).orElseThrow();
+    }
+
+    @Benchmark
+    public String legacyCreateAccessToken() {
+        return JWT.create()
+                .withSubject("AccessToken")
+                .withExpiresAt(new Date(System.currentTimeMillis() + 3600 * 1000))
+                .withClaim("username", "test@test.com")
+                .sign(Algorithm.HMAC512(SECRET));
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtService.createAccessToken("test@test.com");
+    }
+}
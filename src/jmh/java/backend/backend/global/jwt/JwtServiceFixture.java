@@ -0,0 +1,78 @@
+package backend.backend.global.jwt;
+
+import backend.backend.repository.MemberRepository;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.MatchAlwaysTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+import java.lang.reflect.Field;
+
+/**
+ * 벤치마크용 JwtService 를 만든다. 애플리케이션처럼 트랜잭션 프록시를 거치게 할 수 있다.
+ * direct: 프록시 없이 JwtServiceImpl 을 호출
+ * proxied: 애플리케이션과 같이 @Transactional 선언을 따르는 프록시를 거쳐 호출
+ * classTransactional: 모든 메서드에 트랜잭션을 여는 프록시를 거쳐 호출 (클래스 단위 @Transactional 이던 이전 구성)
+ * 트랜잭션 관리자는 임베디드 H2 위 Hikari 풀의 DataSourceTransactionManager 이므로,
+ * 트랜잭션 비용(커넥션 획득, setAutoCommit, COMMIT)의 하한이다. (JPA 는 EntityManager 생성이 더해진다)
+ */
+class JwtServiceFixture implements AutoCloseable {
+
+    static final String SECRET = "back-likelion-jwt-secret-key-must-be-at-least-512-bits-long-for-hmac512";
+
+    private final JwtServiceImpl target;
+    private final HikariDataSource dataSource;
+    private final JwtService jwtService;
+
+    JwtServiceFixture(String mode, MemberRepository memberRepository, PrincipalCache principalCache)
+            throws ReflectiveOperationException {
+        target = new JwtServiceImpl(memberRepository, null, null, principalCache);
+        setField("secret", SECRET);
+        setField("accessTokenValidityInSeconds", "3600");
+        setField("accessHeader", "Authorization");
+        setField("refreshHeader", "Authorization-refresh");
+        target.init();
+
+        if (mode.equals("direct")) {
+            dataSource = null;
+            jwtService = target;
+            return;
+        }
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:jwt-benchmark;DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(4);
+        dataSource = new HikariDataSource(config);
+        TransactionAttributeSource attributeSource = switch (mode) {
+            case "proxied" -> new AnnotationTransactionAttributeSource();
+            case "classTransactional" -> new MatchAlwaysTransactionAttributeSource();
+            default -> throw new IllegalArgumentException(mode);
+        };
+
+        // 스프링 부트 기본값과 같이 클래스 기반(CGLIB) 프록시로 만든다.
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new TransactionInterceptor(new DataSourceTransactionManager(dataSource), attributeSource));
+        jwtService = (JwtService) proxyFactory.getProxy();
+    }
+
+    JwtService jwtService() {
+        return jwtService;
+    }
+
+    private void setField(String name, String value) throws ReflectiveOperationException {
+        Field field = JwtServiceImpl.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    @Override
+    public void close() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package backend.backend.repository;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 대량 INSERT 에서 Hibernate 가 id 전략별로 실행하는 JDBC 호출을 그대로 재현해 행당 비용을 비교한다.
+ * identity: 행마다 INSERT 를 실행하고 생성된 키를 읽는다. (IDENTITY 이면 Hibernate 가 배치를 끈다)
+ * sequence: 50 행마다 시퀀스를 한 번 읽어 id 구간을 받고, 50 행을 하나의 JDBC 배치로 보낸다. (pooled 옵티마이저)
+ * 임베디드 H2 는 네트워크 왕복이 없으므로 원격 DB 에서는 차이가 더 커진다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final int BATCH_SIZE = 50;
+
+    private Connection connection;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:bulk-insert;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table comment_identity (comment_id bigint generated by default as identity primary key, "
+                    + "post_id bigint not null, content varchar(100) not null)");
+            statement.execute("create table comment_sequence (comment_id bigint primary key, "
+                    + "post_id bigint not null, content varchar(100) not null)");
+            statement.execute("create sequence comment_sequence_seq start with " + BATCH_SIZE + " increment by " + BATCH_SIZE);
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("truncate table comment_identity");
+            statement.execute("truncate table comment_sequence");
+        }
+        connection.commit();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long identityRowByRow() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into comment_identity (post_id, content) values (?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                insert.setLong(1, i % 100);
+                insert.setString(2, "댓글 내용");
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long sequenceBatched() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement nextValue = connection.prepareStatement("select next value for comment_sequence_seq");
+             PreparedStatement insert = connection.prepareStatement(
+                     "insert into comment_sequence (comment_id, post_id, content) values (?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i += BATCH_SIZE) {
+                long hi;
+                try (ResultSet resultSet = nextValue.executeQuery()) {
+                    resultSet.next();
+                    hi = resultSet.getLong(1);
+                }
+                for (long id = hi - BATCH_SIZE + 1; id <= hi; id++) {
+                    insert.setLong(1, id);
+                    insert.setLong(2, id % 100);
+                    insert.setString(3, "댓글 내용");
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+                lastId = hi;
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+}
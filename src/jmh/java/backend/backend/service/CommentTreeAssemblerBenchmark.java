@@ -0,0 +1,62 @@
+package backend.backend.service;
+
+import backend.backend.domain.Comment;
+import backend.backend.domain.Member;
+import backend.backend.domain.dto.commentDto.CommentResponseDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 평면 댓글 목록을 트리로 조립하는 비용 (CommentTreeAssembler.assemble).
+ * 댓글 4개 중 1개가 루트이고 나머지는 직전 루트의 대댓글이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommentTreeAssemblerBenchmark {
+
+    @Param({"10", "1000", "50000"})
+    private int commentCount;
+
+    private List<Comment> comments;
+
+    @Setup
+    public void setUp() {
+        Member member = Member.builder()
+                .id(1L)
+                .email("test@test.com")
+                .password("password")
+                .nickName("테스터")
+                .emoji("😀")
+                .build();
+        comments = new ArrayList<>(commentCount);
+        Comment root = null;
+        for (long id = 1; id <= commentCount; id++) {
+            Comment parent = id % 4 == 1 ? null : root;
+            Comment comment = Comment.builder()
+                    .id(id)
+                    .content("댓글 " + id)
+                    .nickname("테스터")
+                    .member(member)
+                    .parent(parent)
+                    .depth(parent == null ? 0 : 1)
+                    .children(new ArrayList<>())
+                    .build();
+            if (parent == null) {
+                root = comment;
+            }
+            comments.add(comment);
+        }
+    }
+
+    @Benchmark
+    public List<CommentResponseDto> assemble() {
+        return CommentTreeAssembler.assemble(comments);
+    }
+}
@@ -0,0 +1,303 @@
+package backend.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬에서 실행 중인 앱(./gradlew loadTestServer)에 설정한 비율로 요청을 보내고 엔드포인트별 지연 시간 분포와 처리량을 기록한다.
+ * 워커마다 응답을 받은 뒤 다음 요청을 보내는 closed-loop 방식이며, 워밍업 구간의 요청은 기록하지 않는다.
+ *
+ * 설정 (-Pload.xxx 로 전달):
+ * load.base-url, load.concurrency, load.warmup-seconds, load.duration-seconds, load.members,
+ * load.mix (예: post-list=40,post-detail=35,meeting-list=20,login=5), load.report-dir
+ */
+public class LoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    enum Endpoint {
+        POST_LIST("post-list"),
+        POST_DETAIL("post-detail"),
+        MEETING_LIST("meeting-list"),
+        LOGIN("login");
+
+        private final String key;
+
+        Endpoint(String key) {
+            this.key = key;
+        }
+
+        static Endpoint of(String key) {
+            for (Endpoint endpoint : values()) {
+                if (endpoint.key.equals(key)) {
+                    return endpoint;
+                }
+            }
+            throw new IllegalArgumentException("알 수 없는 엔드포인트: " + key);
+        }
+    }
+
+    private final String baseUrl;
+    private final int concurrency;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final int members;
+    private final Map<Endpoint, Integer> mix;
+    private final Path reportDir;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private LoadGenerator() {
+        this.baseUrl = System.getProperty("load.base-url", "http://localhost:8080");
+        this.concurrency = Integer.getInteger("load.concurrency", 32);
+        this.warmupSeconds = Integer.getInteger("load.warmup-seconds", 10);
+        this.durationSeconds = Integer.getInteger("load.duration-seconds", 60);
+        this.members = Integer.getInteger("load.members", 1000);
+        this.mix = parseMix(System.getProperty("load.mix", "post-list=40,post-detail=35,meeting-list=20,login=5"));
+        this.reportDir = Path.of(System.getProperty("load.report-dir", "build/reports/load-test"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadGenerator().run();
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split("=");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                weights.put(Endpoint.of(pair[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("load.mix 에 가중치가 0 보다 큰 엔드포인트가 없습니다.");
+        }
+        return weights;
+    }
+
+    private void run() throws Exception {
+        String sampleToken = login(0);
+        List<Long> postIds = samplePostIds(sampleToken);
+        if (postIds.isEmpty()) {
+            throw new IllegalStateException("게시글이 없습니다. ./gradlew loadTestServer 로 데이터를 먼저 생성하세요.");
+        }
+        System.out.printf("대상 %s, 워커 %d, 워밍업 %ds, 측정 %ds, 비율 %s, 게시글 id 샘플 %d개%n",
+                baseUrl, concurrency, warmupSeconds, durationSeconds, mix, postIds.size());
+
+        long startNanos = System.nanoTime();
+        long recordFromNanos = startNanos + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long endNanos = recordFromNanos + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        List<Worker> workers = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Worker worker = new Worker(i, postIds, recordFromNanos, endNanos, done);
+            workers.add(worker);
+            Thread thread = new Thread(worker, "load-worker-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        done.await();
+
+        Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+        Map<Endpoint, Long> errors = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : mix.keySet()) {
+            histograms.put(endpoint, newHistogram());
+            errors.put(endpoint, 0L);
+        }
+        for (Worker worker : workers) {
+            worker.histograms.forEach((endpoint, histogram) -> histograms.get(endpoint).add(histogram));
+            worker.errors.forEach((endpoint, count) -> errors.merge(endpoint, count, Long::sum));
+        }
+        writeReports(histograms, errors);
+    }
+
+    private static Histogram newHistogram() {
+        return new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+    }
+
+    private String login(int memberIndex) throws IOException, InterruptedException {
+        HttpResponse<Void> response = httpClient.send(loginRequest(memberIndex), HttpResponse.BodyHandlers.discarding());
+        String accessToken = response.headers().firstValue("Authorization").orElse(null);
+        if (response.statusCode() != 200 || accessToken == null) {
+            throw new IllegalStateException("로그인 실패 (loadtest" + memberIndex + "@test.com): HTTP " + response.statusCode());
+        }
+        return accessToken;
+    }
+
+    private HttpRequest loginRequest(int memberIndex) {
+        String body = "{\"username\":\"loadtest" + memberIndex + "@test.com\",\"password\":\"" + LoadTestDataSeeder.PASSWORD + "\"}";
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    // 상세 조회 대상으로 쓸 게시글 id 를 피드 API 로 최대 1,000 개 수집한다.
+    private List<Long> samplePostIds(String accessToken) throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>();
+        String cursor = "";
+        for (int page = 0; page < 10 && cursor != null; page++) {
+            HttpResponse<String> response = httpClient.send(
+                    get("/api/post?size=100&cursor=" + cursor, accessToken), HttpResponse.BodyHandlers.ofString());
+            JsonNode data = objectMapper.readTree(response.body()).path("data");
+            data.path("content").forEach(post -> ids.add(post.path("id").asLong()));
+            cursor = data.path("nextCursor").isTextual() ? data.path("nextCursor").asText() : null;
+        }
+        return ids;
+    }
+
+    private HttpRequest get(String path, String accessToken) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + accessToken)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest request(Endpoint endpoint, String accessToken, List<Long> postIds) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (endpoint) {
+            case POST_LIST -> get("/api/post?page=" + random.nextInt(50) + "&size=20", accessToken);
+            case POST_DETAIL -> get("/api/post/" + postIds.get(random.nextInt(postIds.size())), accessToken);
+            // 모임 목록의 page 는 1부터 시작한다.
+            case MEETING_LIST -> get("/api/meeting?page=" + (random.nextInt(20) + 1) + "&size=20", accessToken);
+            case LOGIN -> loginRequest(random.nextInt(members));
+        };
+    }
+
+    private Endpoint pick(int totalWeight) {
+        int value = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<Endpoint, Integer> entry : mix.entrySet()) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private class Worker implements Runnable {
+        private final int index;
+        private final List<Long> postIds;
+        private final long recordFromNanos;
+        private final long endNanos;
+        private final CountDownLatch done;
+        private final Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+        private final Map<Endpoint, Long> errors = new EnumMap<>(Endpoint.class);
+
+        Worker(int index, List<Long> postIds, long recordFromNanos, long endNanos, CountDownLatch done) {
+            this.index = index;
+            this.postIds = postIds;
+            this.recordFromNanos = recordFromNanos;
+            this.endNanos = endNanos;
+            this.done = done;
+            for (Endpoint endpoint : mix.keySet()) {
+                histograms.put(endpoint, newHistogram());
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                String accessToken = login(index % members);
+                int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+                long now;
+                while ((now = System.nanoTime()) < endNanos) {
+                    Endpoint endpoint = pick(totalWeight);
+                    boolean success;
+                    try {
+                        HttpResponse<Void> response = httpClient.send(
+                                request(endpoint, accessToken, postIds), HttpResponse.BodyHandlers.discarding());
+                        success = response.statusCode() == 200;
+                    } catch (IOException e) {
+                        success = false;
+                    }
+                    if (now < recordFromNanos) {
+                        continue;
+                    }
+                    if (success) {
+                        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - now);
+                        histograms.get(endpoint).recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+                    } else {
+                        errors.merge(endpoint, 1L, Long::sum);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                System.err.println("워커 " + index + " 로그인 실패: " + e.getMessage());
+            } finally {
+                done.countDown();
+            }
+        }
+    }
+
+    private void writeReports(Map<Endpoint, Histogram> histograms, Map<Endpoint, Long> errors) throws IOException {
+        Files.createDirectories(reportDir);
+        Map<String, Map<String, Object>> summary = new LinkedHashMap<>();
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT, "%-14s %10s %8s %10s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+
+        for (Map.Entry<Endpoint, Histogram> entry : histograms.entrySet()) {
+            Endpoint endpoint = entry.getKey();
+            Histogram histogram = entry.getValue();
+            long count = histogram.getTotalCount();
+            double throughput = (double) count / durationSeconds;
+
+            try (PrintStream out = new PrintStream(Files.newOutputStream(reportDir.resolve(endpoint.key + ".hgrm")),
+                    false, StandardCharsets.UTF_8)) {
+                // 값 단위: ms
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("requests", count);
+            stats.put("errors", errors.get(endpoint));
+            stats.put("throughputPerSecond", throughput);
+            stats.put("p50Ms", millis(histogram, 50));
+            stats.put("p90Ms", millis(histogram, 90));
+            stats.put("p99Ms", millis(histogram, 99));
+            stats.put("p999Ms", millis(histogram, 99.9));
+            stats.put("maxMs", histogram.getMaxValue() / 1000.0);
+            summary.put(endpoint.key, stats);
+
+            table.append(String.format(Locale.ROOT, "%-14s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    endpoint.key, count, errors.get(endpoint), throughput,
+                    millis(histogram, 50), millis(histogram, 99), millis(histogram, 99.9), histogram.getMaxValue() / 1000.0));
+        }
+
+        Files.writeString(reportDir.resolve("summary.txt"), table.toString(), StandardCharsets.UTF_8);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportDir.resolve("summary.json").toFile(), summary);
+        System.out.print(table);
+        System.out.println("보고서: " + reportDir.toAbsolutePath());
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
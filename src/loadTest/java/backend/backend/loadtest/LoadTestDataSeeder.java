@@ -0,0 +1,170 @@
+package backend.backend.loadtest;
+
+import backend.backend.domain.Comment;
+import backend.backend.domain.Likes;
+import backend.backend.domain.Meeting;
+import backend.backend.domain.Member;
+import backend.backend.domain.Post;
+import backend.backend.domain.enums.MeetingCategory;
+import backend.backend.domain.enums.Week;
+import backend.backend.domain.mapping.MeetingMember;
+import backend.backend.repository.CommentRepository;
+import backend.backend.repository.LikesRepository;
+import backend.backend.repository.MeetingMemberRepository;
+import backend.backend.repository.MeetingRepository;
+import backend.backend.repository.MemberRepository;
+import backend.backend.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 테스트용 데이터를 저장소(Repository)로 채운다. seed 프로필에서 loadTest 클래스패스로 실행할 때만 등록된다.
+ * 회원은 loadtest{n}@test.com / {@link #PASSWORD} 로 로그인할 수 있으며, 게시글의 좋아요/댓글 수는 저장한 행 수와 일치한다.
+ */
+@Slf4j
+@Component
+@Profile("seed")
+@RequiredArgsConstructor
+public class LoadTestDataSeeder implements ApplicationRunner {
+
+    public static final String PASSWORD = "loadtest1!";
+    private static final int CHUNK_SIZE = 1_000;
+
+    private final MemberRepository memberRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final LikesRepository likesRepository;
+    private final MeetingRepository meetingRepository;
+    private final MeetingMemberRepository meetingMemberRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    @Value("${seed.members}")
+    private int memberCount;
+    @Value("${seed.posts}")
+    private int postCount;
+    @Value("${seed.comments-per-post}")
+    private int commentsPerPost;
+    @Value("${seed.likes-per-post}")
+    private int likesPerPost;
+    @Value("${seed.meetings}")
+    private int meetingCount;
+    @Value("${seed.participants-per-meeting}")
+    private int participantsPerMeeting;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long startedAt = System.currentTimeMillis();
+        // 모든 회원이 같은 비밀번호를 쓰므로 bcrypt 는 한 번만 계산한다.
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+
+        List<Long> memberIds = new ArrayList<>(memberCount);
+        inChunks(memberCount, (from, to) -> {
+            List<Member> members = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                members.add(Member.builder()
+                        .email("loadtest" + i + "@test.com")
+                        .password(encodedPassword)
+                        .nickName("부하" + i)
+                        .emoji("😀")
+                        .build());
+            }
+            memberRepository.saveAll(members).forEach(member -> memberIds.add(member.getId()));
+        });
+
+        int likes = Math.min(likesPerPost, memberIds.size());
+        inChunks(postCount, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                Member writer = entityManager.getReference(Member.class, memberIds.get(i % memberIds.size()));
+                Post post = postRepository.save(Post.builder()
+                        .title("부하 테스트 게시글 " + i)
+                        .content("부하 테스트 본문 " + i)
+                        .member(writer)
+                        .likeCount(likes)
+                        .commentCount(commentsPerPost)
+                        .build());
+                saveComments(post, i, memberIds);
+                for (int l = 0; l < likes; l++) {
+                    Member liker = entityManager.getReference(Member.class, memberIds.get((i + l) % memberIds.size()));
+                    likesRepository.save(new Likes(liker, post));
+                }
+            }
+        });
+
+        int participants = Math.min(participantsPerMeeting, memberIds.size());
+        inChunks(meetingCount, (from, to) -> {
+            MeetingCategory[] categories = MeetingCategory.values();
+            Week[] weeks = Week.values();
+            for (int i = from; i < to; i++) {
+                Meeting meeting = meetingRepository.save(Meeting.builder()
+                        .title("부하 테스트 모임 " + i)
+                        .category(categories[i % categories.length])
+                        .week(weeks[i % weeks.length])
+                        .time(LocalTime.of(10, 0))
+                        .limitNumberOfPeople(participants + 10)
+                        .participantCount(participants)
+                        .description("부하 테스트 모임 설명 " + i)
+                        .owner(entityManager.getReference(Member.class, memberIds.get(i % memberIds.size())))
+                        .build());
+                for (int p = 0; p < participants; p++) {
+                    Member participant = entityManager.getReference(Member.class, memberIds.get((i + p) % memberIds.size()));
+                    meetingMemberRepository.save(new MeetingMember(meeting, participant));
+                }
+            }
+        });
+
+        log.info("부하 테스트 데이터 생성 완료: 회원 {}, 게시글 {}, 댓글 {}, 좋아요 {}, 모임 {} ({} ms)",
+                memberCount, postCount, (long) postCount * commentsPerPost, (long) postCount * likes,
+                meetingCount, System.currentTimeMillis() - startedAt);
+    }
+
+    // 루트 댓글과 대댓글을 번갈아 만든다. (짝수 번째는 루트, 홀수 번째는 직전 루트의 대댓글)
+    private void saveComments(Post post, int postIndex, List<Long> memberIds) {
+        Comment root = null;
+        for (int c = 0; c < commentsPerPost; c++) {
+            Member writer = entityManager.getReference(Member.class, memberIds.get((postIndex + c) % memberIds.size()));
+            String nickname = "부하" + ((postIndex + c) % memberIds.size());
+            Comment comment = c % 2 == 0
+                    ? new Comment("부하 테스트 댓글 " + c, nickname, post, writer)
+                    : new Comment("부하 테스트 대댓글 " + c, nickname, post, writer, root);
+            commentRepository.save(comment);
+            if (c % 2 == 0) {
+                root = comment;
+            }
+        }
+    }
+
+    /**
+     * CHUNK_SIZE 단위로 트랜잭션을 나누어 실행하고, 끝날 때마다 영속성 컨텍스트를 비워 메모리 사용을 일정하게 유지한다.
+     * INSERT 는 hibernate.jdbc.batch_size 단위의 JDBC 배치로 전송된다.
+     */
+    private void inChunks(int total, ChunkAction action) {
+        for (int from = 0; from < total; from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, total);
+            int chunkFrom = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                action.run(chunkFrom, to);
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkAction {
+        void run(int from, int to);
+    }
+}
@@ -1,16 +1,21 @@
 package backend.backend.configuration;
 
 import backend.backend.global.jwt.JwtService;
+import backend.backend.global.jwt.PrincipalCache;
 import backend.backend.global.jwt.filter.JwtAuthenticationProcessingFilter;
 import backend.backend.global.login.filter.JsonUsernamePasswordAuthenticationFilter;
 import backend.backend.global.login.handler.LoginFailureHandler;
 import backend.backend.global.login.handler.LoginSuccessJWTProvideHandler;
-import backend.backend.repository.MemberRepository;
+import backend.backend.global.util.security.BoundedPasswordEncoder;
 import backend.backend.service.LoginService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -20,7 +25,8 @@ import org.springframework.security.config.annotation.web.configurers.CsrfConfig
 import org.springframework.security.config.annotation.web.configurers.FormLoginConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HttpBasicConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
@@ -29,6 +35,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.List;
+import java.util.Map;
 
 @Configuration
 @RequiredArgsConstructor
@@ -36,8 +43,10 @@ public class SecurityConfig {
 
     private final LoginService loginService;
     private final ObjectMapper objectMapper;
-    private final MemberRepository memberRepository;
     private final JwtService jwtService;
+    private final PrincipalCache principalCache;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -49,6 +58,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(authorize ->
                         authorize
                                 .requestMatchers("/api/login", "/api/signUp", "/swagger-ui/*").permitAll()
+                                .requestMatchers(publicActuatorPaths()).permitAll()
                                 .anyRequest().authenticated()
                 )
                 .addFilterAfter(jsonUsernamePasswordLoginFilter(), LogoutFilter.class)
@@ -56,9 +66,31 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // 운영(prod) 프로필에서는 메트릭이 내부 구현(쿼리 수, 풀 크기 등)을 드러내므로 /actuator/prometheus 도 인증을 요구한다.
+    private String[] publicActuatorPaths() {
+        if (environment.acceptsProfiles(Profiles.of("prod"))) {
+            return new String[]{"/actuator/health"};
+        }
+        return new String[]{"/actuator/health", "/actuator/prometheus"};
+    }
+
+    @Value("${security.password.bcrypt-strength}")
+    private int bcryptStrength;
+    @Value("${security.password.hash-pool-size}")
+    private int hashPoolSize;
+    @Value("${security.password.hash-queue-capacity}")
+    private int hashQueueCapacity;
+
+    /**
+     * {bcrypt} 접두어 형식의 DelegatingPasswordEncoder. 저장된 해시의 strength 가 설정보다 낮으면
+     * 로그인 성공 시 LoginService.updatePassword 로 다시 암호화해 저장한다.
+     */
     @Bean
     public PasswordEncoder passwordEncoder(){
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        String idForEncode = "bcrypt";
+        Map<String, PasswordEncoder> encoders = Map.of(idForEncode, new BCryptPasswordEncoder(bcryptStrength));
+        PasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(idForEncode, encoders);
+        return new BoundedPasswordEncoder(delegatingPasswordEncoder, hashPoolSize, hashQueueCapacity, meterRegistry);
     }
 
     @Bean
@@ -67,13 +99,14 @@ public class SecurityConfig {
 
         provider.setPasswordEncoder(passwordEncoder());
         provider.setUserDetailsService(loginService);
+        provider.setUserDetailsPasswordService(loginService);
 
         return new ProviderManager(provider);
     }
 
     @Bean
     public LoginSuccessJWTProvideHandler loginSuccessJWTProvideHandler(){
-        return new LoginSuccessJWTProvideHandler(jwtService, memberRepository);//변경
+        return new LoginSuccessJWTProvideHandler(jwtService);//변경
     }
 
     @Bean
@@ -95,7 +128,7 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationProcessingFilter jwtAuthenticationProcessingFilter(){
-        JwtAuthenticationProcessingFilter jsonUsernamePasswordLoginFilter = new JwtAuthenticationProcessingFilter(jwtService, memberRepository);
+        JwtAuthenticationProcessingFilter jsonUsernamePasswordLoginFilter = new JwtAuthenticationProcessingFilter(jwtService, principalCache);
 
         return jsonUsernamePasswordLoginFilter;
     }
@@ -1,6 +1,7 @@
 package backend.backend.controller;
 
 import backend.backend.domain.dto.Response;
+import backend.backend.domain.dto.SliceResponse;
 import backend.backend.domain.dto.commentDto.CommentRequestDto;
 import backend.backend.domain.dto.commentDto.CommentResponseDto;
 import backend.backend.global.util.security.SecurityUtil;
@@ -23,8 +24,7 @@ public class CommentController {
     @PostMapping("/post/{id}/comment/{comment_id}")
     public ResponseEntity<Response<CommentResponseDto>> createComment(@Validated @PathVariable Long id, @PathVariable(required = false) Long comment_id,
                                                                       @RequestBody CommentRequestDto requestDto){
-        String memberEmail = SecurityUtil.getLoginEmail();
-        return ResponseEntity.ok(Response.ok(commentService.createComment(id, comment_id, requestDto, memberEmail)));
+        return ResponseEntity.ok(Response.ok(commentService.createComment(id, comment_id, requestDto, SecurityUtil.getLoginMember())));
     }
 
     @Operation(summary = "댓글 수정", description = "댓글 내용 수정 (작성자만 가능)")
@@ -41,6 +41,23 @@ public class CommentController {
         return ResponseEntity.ok(commentService.deleteComment(id, memberEmail));
     }
 
+    @Operation(summary = "댓글 목록 조회", description = "루트 댓글을 (작성일시, id) 커서 기반으로 조회, 각 댓글에 대댓글 replySize 개와 대댓글 커서 포함")
+    @GetMapping("/post/{id}/comments")
+    public ResponseEntity<Response<SliceResponse<CommentResponseDto>>> getComments(@PathVariable Long id,
+                                                                                   @RequestParam(required = false) String cursor,
+                                                                                   @RequestParam(defaultValue = "20") int size,
+                                                                                   @RequestParam(defaultValue = "3") int replySize) {
+        return ResponseEntity.ok(Response.ok(commentService.getComments(id, cursor, size, replySize)));
+    }
+
+    @Operation(summary = "대댓글 목록 조회", description = "대댓글을 (작성일시, id) 커서 기반으로 조회")
+    @GetMapping("comment/{id}/replies")
+    public ResponseEntity<Response<SliceResponse<CommentResponseDto>>> getReplies(@PathVariable Long id,
+                                                                                  @RequestParam(required = false) String cursor,
+                                                                                  @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(Response.ok(commentService.getReplies(id, cursor, size)));
+    }
+
     @Operation(summary = "댓글 상세 조회", description = "댓글 상세 정보 및 자식 댓글 조회")
     @GetMapping("comment/{id}")
     public ResponseEntity<Response<CommentResponseDto>> getComment(@PathVariable Long id) {
@@ -2,6 +2,7 @@ package backend.backend.controller;
 
 
 import backend.backend.domain.dto.Response;
+import backend.backend.domain.dto.SliceResponse;
 import backend.backend.domain.dto.meetingDto.MeetingRequestDTO;
 import backend.backend.domain.dto.meetingDto.MeetingResponseDTO;
 import backend.backend.domain.enums.MeetingCategory;
@@ -27,12 +28,20 @@ public class MeetingController {
     @Operation(summary = "모임 목록 조회", description = "페이지네이션으로 모임 목록 조회 (카테고리 필터 가능)")
     @GetMapping
     public ResponseEntity<Response<Page<MeetingResponseDTO.getListDTO>>> getMeetingsList(
-            @PageableDefault(page = 1) Pageable pageable,
+            @PageableDefault(page = 1, size = 3) Pageable pageable,
             @RequestParam(required = false) MeetingCategory category) {
         Page<MeetingResponseDTO.getListDTO> meetings = meetingService.getList(pageable, category);
         return ResponseEntity.ok(Response.ok(meetings));
     }
 
+    @Operation(summary = "모임 목록 조회 (COUNT 생략)", description = "count=false 로 요청하면 전체 개수 쿼리 없이 hasNext 와 근사 전체 개수(approximateTotal)를 반환")
+    @GetMapping(params = "count=false")
+    public ResponseEntity<Response<SliceResponse<MeetingResponseDTO.getListDTO>>> getMeetingsSlice(
+            @PageableDefault(page = 1, size = 3) Pageable pageable,
+            @RequestParam(required = false) MeetingCategory category) {
+        return ResponseEntity.ok(Response.ok(meetingService.getSlice(pageable, category)));
+    }
+
     @Operation(summary = "모임 생성", description = "새 모임 생성 (제목, 카테고리, 요일, 시간, 인원, 설명)")
     @PostMapping
     public ResponseEntity<Response<Void>> postMeeting(@Valid @RequestBody MeetingRequestDTO.MeetingPostDto meetingPostDto) {
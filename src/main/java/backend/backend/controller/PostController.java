@@ -1,6 +1,7 @@
 package backend.backend.controller;
 
 import backend.backend.domain.dto.Response;
+import backend.backend.domain.dto.SliceResponse;
 import backend.backend.domain.dto.postDto.PostRequestDto;
 import backend.backend.domain.dto.postDto.PostResponseDto;
 import backend.backend.global.util.security.SecurityUtil;
@@ -32,27 +33,40 @@ public class PostController {
         return ResponseEntity.ok(Response.ok(postService.getPostList(pageable)));
     }
 
-    @Operation(summary = "좋아요 추가", description = "게시글에 좋아요 추가")
+    // cursor 가 함께 오면 커서 피드(COUNT 없음)로 처리해, 두 매핑이 동시에 일치하지 않게 한다.
+    @Operation(summary = "게시글 목록 조회 (COUNT 생략)", description = "count=false 로 요청하면 전체 개수 쿼리 없이 hasNext 와 근사 전체 개수(approximateTotal)를 반환 (cursor 와 함께 요청하면 커서 피드)")
+    @GetMapping(params = {"count=false", "!cursor"})
+    public ResponseEntity<Response<SliceResponse<PostResponseDto>>> getPostSlice(
+            @PageableDefault(size = 10, sort = "id", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(Response.ok(postService.getPostSlice(pageable)));
+    }
+
+    @Operation(summary = "게시글 피드 조회 (커서)", description = "cursor(마지막으로 받은 게시글 id) 이전 게시글을 id DESC 로 조회, 전체 개수 조회 없음 (첫 페이지는 cursor 를 비워서 요청)")
+    @GetMapping(params = "cursor")
+    public ResponseEntity<Response<SliceResponse<PostResponseDto>>> getPostFeed(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(Response.ok(postService.getPostFeed(cursor, size)));
+    }
+
+    @Operation(summary = "좋아요 추가", description = "게시글에 좋아요 추가 (이미 좋아요한 경우에도 성공 응답)")
     @PostMapping("/{id}/like")
     public ResponseEntity<Response<Void>> likePost(@PathVariable Long id) {
-        String memberEmail = SecurityUtil.getLoginEmail();
-        likesService.likePost(id, memberEmail);
-        return ResponseEntity.ok(Response.ok("좋아요가 성공적으로 추가되었습니다."));
+        boolean changed = likesService.likePost(id, SecurityUtil.getLoginMemberId());
+        return ResponseEntity.ok(Response.ok(changed ? "좋아요가 성공적으로 추가되었습니다." : "이미 좋아요한 게시글입니다."));
     }
 
-    @Operation(summary = "좋아요 취소", description = "게시글 좋아요 취소")
+    @Operation(summary = "좋아요 취소", description = "게시글 좋아요 취소 (좋아요하지 않은 경우에도 성공 응답)")
     @DeleteMapping("/{id}/like")
     public ResponseEntity<Response<Void>> unlikePost(@PathVariable Long id) {
-        String memberEmail = SecurityUtil.getLoginEmail();
-        likesService.unlikePost(id, memberEmail);
-        return ResponseEntity.ok(Response.ok("좋아요가 성공적으로 취소되었습니다."));
+        boolean changed = likesService.unlikePost(id, SecurityUtil.getLoginMemberId());
+        return ResponseEntity.ok(Response.ok(changed ? "좋아요가 성공적으로 취소되었습니다." : "좋아요하지 않은 게시글입니다."));
     }
 
     @Operation(summary = "게시글 작성", description = "새 게시글 작성")
     @PostMapping()
     public ResponseEntity<Response<PostResponseDto>> createPost(@Validated @RequestBody PostRequestDto requestDto){
-        String memberEmail = SecurityUtil.getLoginEmail();
-        PostResponseDto postResponseDto = postService.createPost(requestDto, memberEmail);
+        PostResponseDto postResponseDto = postService.createPost(requestDto, SecurityUtil.getLoginMember());
         return ResponseEntity.ok(Response.ok(postResponseDto));
     }
 
@@ -16,9 +16,13 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SQLDelete(sql = "UPDATE comment SET active_status = 'DELETED' WHERE comment_id = ? AND active_status <> 'DELETED'")
 @SQLRestriction("active_status <> 'DELETED'")
+@Table(indexes = {
+        @Index(name = "idx_comment_post_parent_status", columnList = "post_id, parent_comment_id, active_status")
+})
 public class Comment extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
+    @SequenceGenerator(name = "comment_seq", sequenceName = "comment_seq", allocationSize = 50)
     @Column(name = "comment_id")
     private Long id;
 
@@ -68,4 +72,13 @@ public class Comment extends BaseEntity {
         this.content = content;
     }
 
+    // 삭제 시 cascade 로 함께 삭제되는 대댓글까지 포함한 댓글 수
+    public int countWithDescendants(){
+        int count = 1;
+        for (Comment child : children) {
+            count += child.countWithDescendants();
+        }
+        return count;
+    }
+
 }
\ No newline at end of file
@@ -9,11 +9,14 @@ import lombok.*;
 @Entity
 @Table(name = "likes", uniqueConstraints = {
         @UniqueConstraint(name = "uk_likes_member_post", columnNames = {"member_id", "post_id"})
+}, indexes = {
+        @Index(name = "idx_likes_post", columnList = "post_id")
 })
 public class Likes {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "likes_seq")
+    @SequenceGenerator(name = "likes_seq", sequenceName = "likes_seq", allocationSize = 50)
     @Column(name = "like_id")
     private Long id;
 
@@ -2,8 +2,6 @@ package backend.backend.domain;
 
 
 import backend.backend.domain.common.BaseEntity;
-import backend.backend.domain.common.BusinessException;
-import backend.backend.domain.common.ResponseCode;
 import backend.backend.domain.enums.MeetingCategory;
 import backend.backend.domain.enums.Week;
 import backend.backend.domain.mapping.MeetingMember;
@@ -15,9 +13,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static jakarta.persistence.FetchType.LAZY;
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
 
-@Table(name = "MEETING")
+@Table(name = "MEETING", indexes = {
+        @Index(name = "idx_meeting_category_id", columnList = "category, meeting_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
@@ -26,7 +26,8 @@ import static jakarta.persistence.GenerationType.IDENTITY;
 public class Meeting extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = SEQUENCE, generator = "meeting_seq")
+    @SequenceGenerator(name = "meeting_seq", sequenceName = "meeting_seq", allocationSize = 50)
     @Column(name = "meeting_id")
     private Long id; //primary Key
 
@@ -40,6 +41,10 @@ public class Meeting extends BaseEntity {
 
     private int limitNumberOfPeople;
 
+    // 참여 인원 수. 참여 시 조건부 UPDATE 로만 증가시켜 정원을 초과하지 않는다.
+    @Column(nullable = false)
+    private int participantCount;
+
     private String description;
 
     @ManyToOne(fetch = LAZY)
@@ -49,15 +54,4 @@ public class Meeting extends BaseEntity {
     @Builder.Default
     @OneToMany(mappedBy = "meeting")
     private List<MeetingMember> members = new ArrayList<>();
-
-    public void join(Member member) {
-        if (members.stream().anyMatch(m -> m.getMember().getId().equals(member.getId()))) {
-            throw new BusinessException(ResponseCode.MTG_ALREADY_JOINED);
-        }
-        if (members.size() >= limitNumberOfPeople) {
-            throw new BusinessException(ResponseCode.MTG_CAPACITY_FULL);
-        }
-        MeetingMember meetingMember = new MeetingMember(this, member);
-        members.add(meetingMember);
-    }
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
 
 @Table(name = "MEMBER")
 @Getter
@@ -16,7 +16,8 @@ import static jakarta.persistence.GenerationType.IDENTITY;
 public class Member extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = SEQUENCE, generator = "member_seq")
+    @SequenceGenerator(name = "member_seq", sequenceName = "member_seq", allocationSize = 50)
     @Column(name = "member_id")
     private Long id; //primary Key
 
@@ -32,21 +33,13 @@ public class Member extends BaseEntity {
 
     private String emoji;
 
-    @Column(length = 1000)
-    private String refreshToken;//RefreshToken
-
-
-    //== 정보 수정 ==//
-
-    public void updateRefreshToken(String refreshToken){
-        this.refreshToken = refreshToken;
-    }
-    public void destroyRefreshToken(){
-        this.refreshToken = null;
-    }
-
     //== 패스워드 암호화 ==//
     public void encodePassword(PasswordEncoder passwordEncoder){
         this.password = passwordEncoder.encode(password);
     }
+
+    // 로그인 시 더 높은 비용으로 다시 암호화한 비밀번호로 교체
+    public void updatePassword(String encodedPassword){
+        this.password = encodedPassword;
+    }
 }
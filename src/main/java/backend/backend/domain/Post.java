@@ -4,23 +4,29 @@ package backend.backend.domain;
 import backend.backend.domain.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
 import java.util.List;
 
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@DynamicUpdate
 @SQLDelete(sql = "UPDATE post SET active_status = 'DELETED' WHERE post_id = ? AND active_status <> 'DELETED'")
 @SQLRestriction("active_status <> 'DELETED'")
 @Entity(name = "post")
+@Table(indexes = {
+        @Index(name = "idx_post_status_id", columnList = "active_status, post_id")
+})
 public class Post extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = SEQUENCE, generator = "post_seq")
+    @SequenceGenerator(name = "post_seq", sequenceName = "post_seq", allocationSize = 50)
     @Column(name = "post_id")
     private Long id;
 
@@ -37,6 +43,14 @@ public class Post extends BaseEntity {
     @Column(nullable = false)
     private String title;
 
+    // 좋아요/댓글 수는 벌크 UPDATE 로만 바꾼다. @DynamicUpdate 로 수정 시 변경된 컬럼만 UPDATE 하여
+    // 조회 이후 다른 트랜잭션이 반영한 카운트를 조회 시점 값으로 덮어쓰지 않게 한다.
+    @Column(nullable = false)
+    private int likeCount;
+
+    @Column(nullable = false)
+    private int commentCount;
+
     public Post(String title, String content, Member member) {
         this.member = member;
         this.content = content;
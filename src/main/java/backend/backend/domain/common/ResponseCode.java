@@ -19,6 +19,7 @@ public enum ResponseCode {
     CMT_NOT_FOUND(404, "CMT-201", "댓글을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     CMT_PARENT_NOT_FOUND(404, "CMT-202", "부모 댓글을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     CMT_POST_NOT_FOUND(404, "CMT-203", "게시물을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    CMT_INVALID_CURSOR(400, "CMT-301", "잘못된 댓글 커서입니다.", HttpStatus.BAD_REQUEST),
 
     // 게시글 : POS
     POS_AUTHENTICATION_FAIL(403, "POS-101", "게시글 작성자 인증에 실패했습니다.", HttpStatus.FORBIDDEN),
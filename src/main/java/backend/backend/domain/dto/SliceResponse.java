@@ -0,0 +1,31 @@
+package backend.backend.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 전체 개수(COUNT) 없이 다음 페이지 존재 여부와 다음 커서만 내려주는 슬라이스 응답
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SliceResponse<T> {
+    private final List<T> content;
+    private final boolean hasNext;
+    private final String nextCursor;
+    // 주기적으로 갱신되는 근사 전체 개수 (오프셋 슬라이스 조회에서만 포함)
+    private final Long approximateTotal;
+
+    public static <T> SliceResponse<T> of(List<T> content, boolean hasNext, String nextCursor) {
+        return new SliceResponse<>(content, hasNext, nextCursor, null);
+    }
+
+    public static <T> SliceResponse<T> of(Slice<T> slice, long approximateTotal) {
+        return new SliceResponse<>(slice.getContent(), slice.hasNext(), null, approximateTotal);
+    }
+}
@@ -0,0 +1,42 @@
+package backend.backend.domain.dto.commentDto;
+
+import backend.backend.domain.Comment;
+import backend.backend.domain.common.BusinessException;
+import backend.backend.domain.common.ResponseCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * (created_at, comment_id) 키셋 커서. 클라이언트에는 URL-safe Base64 문자열로 전달한다.
+ */
+public record CommentCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "_";
+
+    public static CommentCursor from(Comment comment) {
+        return new CommentCursor(comment.getCreatedAt(), comment.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 첫 페이지를 의미하므로 null 을 반환한다.
+    public static CommentCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            return new CommentCursor(LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.valueOf(raw.substring(delimiterIndex + 1)));
+        } catch (IllegalArgumentException | DateTimeException | IndexOutOfBoundsException e) {
+            throw new BusinessException(ResponseCode.CMT_INVALID_CURSOR);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package backend.backend.domain.dto.commentDto;
 
 import backend.backend.domain.Comment;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
@@ -10,6 +12,7 @@ import java.util.List;
 
 @Setter
 @Getter
+@NoArgsConstructor
 public class CommentResponseDto {
     private Long id;
     private String emoji;
@@ -20,6 +23,11 @@ public class CommentResponseDto {
     private Long parentId;
     private int depth;
     private List<CommentResponseDto> children= new ArrayList<>();
+    // 다음 대댓글 페이지 커서 (더 불러올 대댓글이 없으면 null)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String replyCursor;
+    // 대댓글이 있는지 여부. children 이 비어 있어도(replySize=0) true 이면 대댓글 API 를 cursor 없이 호출해 첫 페이지를 받는다.
+    private boolean hasReplies;
 
     // Entity -> DTO
     public CommentResponseDto(Comment comment, List<CommentResponseDto> commentResponseDtoList){
@@ -34,8 +42,13 @@ public class CommentResponseDto {
     }
 
     public CommentResponseDto(Comment comment, Long id){
+        this(comment, id, comment.getMember().getEmoji());
+    }
+
+    // 작성자 이모지를 이미 알고 있을 때(댓글 작성) 회원 엔티티를 읽지 않고 변환한다.
+    public CommentResponseDto(Comment comment, Long id, String emoji){
         this.id             = comment.getId();
-        this.emoji          = comment.getMember().getEmoji();
+        this.emoji          = emoji;
         this.nickname       = comment.getNickname();
         this.content        = comment.getContent();
         this.parentId       = id;
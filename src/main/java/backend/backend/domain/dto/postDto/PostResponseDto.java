@@ -1,7 +1,9 @@
 package backend.backend.domain.dto.postDto;
 
 import backend.backend.domain.Post;
+import backend.backend.domain.dto.SliceResponse;
 import backend.backend.domain.dto.commentDto.CommentResponseDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -25,35 +27,33 @@ public class PostResponseDto {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private List<CommentResponseDto> commentList = new ArrayList<>();
+    // 댓글 두 번째 페이지 커서 (GET /api/post/{id}/comments?cursor=)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String commentNextCursor;
     private int likeCount;
     private int commentCount;
+    // 로그인한 회원이 좋아요했는지 여부
+    private boolean likedByMe;
 
     public PostResponseDto(Post post){
-        this.id = post.getId();
-        this.title = post.getTitle();
-        this.content = post.getContent();
-        this.createdAt = post.getCreatedAt();
-        this.updatedAt = post.getUpdatedAt();
-        this.nickName = post.getMember().getNickName();
-        this.emoji = post.getMember().getEmoji();
-        this.email = post.getMember().getEmail();
+        this(post, post.getMember().getNickName(), post.getMember().getEmoji(), post.getMember().getEmail());
     }
 
-    public PostResponseDto(Post post, List<CommentResponseDto> commentResponseDtos, int commentCount, int likeCount){
+    // 작성자 정보를 이미 알고 있을 때(게시글 작성) 회원 엔티티를 읽지 않고 변환한다.
+    public PostResponseDto(Post post, String nickName, String emoji, String email){
         this.id = post.getId();
         this.title = post.getTitle();
         this.content = post.getContent();
         this.createdAt = post.getCreatedAt();
         this.updatedAt = post.getUpdatedAt();
-        this.nickName = post.getMember().getNickName();
-        this.emoji = post.getMember().getEmoji();
-        this.email = post.getMember().getEmail();
-        this.likeCount = likeCount;
-        this.commentCount = commentCount;
-        this.commentList = commentResponseDtos;
+        this.nickName = nickName;
+        this.emoji = emoji;
+        this.email = email;
+        this.likeCount = post.getLikeCount();
+        this.commentCount = post.getCommentCount();
     }
 
-    public PostResponseDto(Post post, int commentCount, int likeCount){
+    public PostResponseDto(Post post, SliceResponse<CommentResponseDto> commentSlice){
         this.id = post.getId();
         this.title = post.getTitle();
         this.content = post.getContent();
@@ -62,8 +62,29 @@ public class PostResponseDto {
         this.nickName = post.getMember().getNickName();
         this.emoji = post.getMember().getEmoji();
         this.email = post.getMember().getEmail();
-        this.likeCount = likeCount;
-        this.commentCount = commentCount;
+        this.likeCount = post.getLikeCount();
+        this.commentCount = post.getCommentCount();
+        this.commentList = commentSlice.getContent();
+        this.commentNextCursor = commentSlice.getNextCursor();
+    }
+
+    // 캐시된 스냅샷을 요청별로 수정할 수 있도록 복사한다. 댓글 목록은 수정하지 않으므로 공유한다.
+    public PostResponseDto copy(){
+        PostResponseDto copy = new PostResponseDto();
+        copy.id = this.id;
+        copy.title = this.title;
+        copy.content = this.content;
+        copy.createdAt = this.createdAt;
+        copy.updatedAt = this.updatedAt;
+        copy.nickName = this.nickName;
+        copy.emoji = this.emoji;
+        copy.email = this.email;
+        copy.likeCount = this.likeCount;
+        copy.commentCount = this.commentCount;
+        copy.commentList = this.commentList;
+        copy.commentNextCursor = this.commentNextCursor;
+        copy.likedByMe = this.likedByMe;
+        return copy;
     }
 
 }
@@ -10,11 +10,13 @@ import lombok.NoArgsConstructor;
 
 import static jakarta.persistence.FetchType.LAZY;
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_meeting_member_meeting_member", columnNames = {"meeting_id", "member_id"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MeetingMember extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meeting_member_seq")
+    @SequenceGenerator(name = "meeting_member_seq", sequenceName = "meeting_member_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = LAZY)
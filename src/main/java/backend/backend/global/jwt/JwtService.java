@@ -1,19 +1,34 @@
 package backend.backend.global.jwt;
 
+import com.auth0.jwt.interfaces.DecodedJWT;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface JwtService {
 
     String createAccessToken(String username);
     String createRefreshToken();
 
-    void updateRefreshToken(String username, String refreshToken);
+    /**
+     * 발급한 리프레시 토큰을 토큰 저장소에 해시로 저장한다. (회원당 여러 기기 허용)
+     * 다른 로그인과 묶어 배치로 저장하며, 반환된 future 는 커밋 후 완료된다.
+     */
+    CompletableFuture<Void> updateRefreshToken(Long memberId, String refreshToken);
 
+    /**
+     * 회원의 모든 리프레시 토큰을 폐기한다.
+     */
     void destroyRefreshToken(String username);
 
+    /**
+     * 리프레시 토큰을 사용 처리(삭제)하고 새 AccessToken 과 RefreshToken 을 발급한다.
+     * 저장소에 없거나 이미 사용된 토큰이면 아무것도 발급하지 않는다.
+     */
+    void reIssueTokens(HttpServletResponse response, String refreshToken);
+
     void sendAccessAndRefreshToken(HttpServletResponse response, String accessToken, String refreshToken);
     void sendAccessToken(HttpServletResponse response, String accessToken);
 
@@ -23,6 +38,11 @@ public interface JwtService {
 
     Optional<String> extractUsername(String accessToken);
 
+    /**
+     * 서명과 만료를 한 번만 검증하고, 유효하면 디코딩된 토큰을 반환한다.
+     */
+    Optional<DecodedJWT> verify(String token);
+
     void setAccessTokenHeader(HttpServletResponse response, String accessToken);
     void setRefreshTokenHeader(HttpServletResponse response, String refreshToken);
 
@@ -1,10 +1,17 @@
 package backend.backend.global.jwt;
 
+import backend.backend.domain.Member;
+import backend.backend.domain.RefreshToken;
 import backend.backend.domain.common.BusinessException;
 import backend.backend.domain.common.ResponseCode;
 import backend.backend.repository.MemberRepository;
+import backend.backend.repository.RefreshTokenRepository;
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.AccessLevel;
@@ -15,10 +22,20 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
-@Transactional
+/**
+ * 토큰 생성/검증/추출은 JWT 필터에서 요청마다 호출되므로 트랜잭션을 열지 않는다. (커넥션 획득, COMMIT 비용)
+ * 저장소를 변경하는 destroyRefreshToken, reIssueTokens 만 트랜잭션으로 실행한다.
+ */
 @Service
 @RequiredArgsConstructor
 @Setter(value = AccessLevel.PRIVATE)
@@ -41,6 +58,19 @@ public class JwtServiceImpl implements JwtService{
     private static final String USERNAME_CLAIM = "username";
     private static final String BEARER = "Bearer ";
     private final MemberRepository memberRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenWriter refreshTokenWriter;
+    private final PrincipalCache principalCache;
+
+    // 요청마다 HMAC 키와 검증기를 만들지 않도록 시작 시 한 번 생성해 재사용한다. (둘 다 thread-safe)
+    private Algorithm algorithm;
+    private JWTVerifier verifier;
+
+    @PostConstruct
+    void init() {
+        algorithm = Algorithm.HMAC512(secret);
+        verifier = JWT.require(algorithm).build();
+    }
 
     @Override
     public String createAccessToken(String username) {
@@ -48,29 +78,69 @@ public class JwtServiceImpl implements JwtService{
                 .withSubject(ACCESS_TOKEN_SUBJECT)
                 .withExpiresAt(new Date(System.currentTimeMillis() + Long.valueOf(accessTokenValidityInSeconds) * 1000))
                 .withClaim(USERNAME_CLAIM, username)
-                .sign(Algorithm.HMAC512(secret));
+                .sign(algorithm);
     }
 
     @Override
     public String createRefreshToken() {
+        // 같은 시각에 발급한 토큰도 해시가 겹치지 않도록 jti 를 넣는다.
         return JWT.create()
                 .withSubject(REFRESH_TOKEN_SUBJECT)
+                .withJWTId(UUID.randomUUID().toString())
                 .withExpiresAt(new Date(System.currentTimeMillis() + Long.valueOf(refreshTokenValidityInSeconds) * 1000))
-                .sign(Algorithm.HMAC512(secret));
+                .sign(algorithm);
     }
 
+    // 저장은 RefreshTokenWriter 가 별도 트랜잭션으로 처리하므로 여기서는 트랜잭션을 열지 않는다.
     @Override
-    public void updateRefreshToken(String email, String refreshToken) {
-        memberRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessException(ResponseCode.MBR_NOT_FOUND))
-                .updateRefreshToken(refreshToken);
+    public CompletableFuture<Void> updateRefreshToken(Long memberId, String refreshToken) {
+        LocalDateTime now = LocalDateTime.now();
+        return refreshTokenWriter.write(hash(refreshToken), memberId, refreshTokenExpiresAt(now), now);
     }
 
     @Override
+    @Transactional
     public void destroyRefreshToken(String email) {
-        memberRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessException(ResponseCode.MBR_NOT_FOUND))
-                .destroyRefreshToken();
+        Member member = memberRepository.findByEmail(email)
+                .orElseThrow(() -> new BusinessException(ResponseCode.MBR_NOT_FOUND));
+        refreshTokenRepository.deleteAllByMemberId(member.getId());
+        principalCache.invalidate(email);
+    }
+
+    @Override
+    @Transactional
+    public void reIssueTokens(HttpServletResponse response, String refreshToken) {
+        String tokenHash = hash(refreshToken);
+        Optional<RefreshToken> storedToken = refreshTokenRepository.findValidWithMember(tokenHash, LocalDateTime.now());
+        // 삭제에 성공한 요청만 재발급한다. 같은 토큰으로 동시에 요청해도 한 번만 교체된다.
+        if (storedToken.isEmpty() || refreshTokenRepository.deleteByTokenHash(tokenHash) == 0) {
+            log.warn("저장소에 없거나 이미 사용된 RefreshToken입니다.");
+            return;
+        }
+
+        Member member = storedToken.get().getMember();
+        String newRefreshToken = createRefreshToken();
+        saveRefreshToken(member.getId(), newRefreshToken);
+        sendAccessAndRefreshToken(response, createAccessToken(member.getEmail()), newRefreshToken);
+    }
+
+    private void saveRefreshToken(Long memberId, String refreshToken) {
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.insert(hash(refreshToken), memberId, refreshTokenExpiresAt(now), now);
+    }
+
+    private LocalDateTime refreshTokenExpiresAt(LocalDateTime issuedAt) {
+        return issuedAt.plusSeconds(Long.parseLong(refreshTokenValidityInSeconds));
+    }
+
+    // 토큰 원문 대신 고정 길이(64자) SHA-256 hex 로 저장, 조회한다.
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     @Override
@@ -102,14 +172,15 @@ public class JwtServiceImpl implements JwtService{
 
     @Override
     public Optional<String> extractUsername(String accessToken) {
+        return verify(accessToken).map(decodedJWT -> decodedJWT.getClaim(USERNAME_CLAIM).asString());
+    }
+
+    @Override
+    public Optional<DecodedJWT> verify(String token) {
         try {
-            return Optional.ofNullable(JWT.require(Algorithm.HMAC512(secret))
-                    .build()
-                    .verify(accessToken)
-                    .getClaim(USERNAME_CLAIM).asString()
-            );
-        }catch (Exception e){
-            log.error(e.getMessage());
+            return Optional.of(verifier.verify(token));
+        }catch (JWTVerificationException e){
+            log.error("유효하지 않은 Token입니다. {}", e.getMessage());
             return Optional.empty();
         }
     }
@@ -126,12 +197,6 @@ public class JwtServiceImpl implements JwtService{
 
     @Override
     public boolean isTokenValid(String token){
-        try {
-            JWT.require(Algorithm.HMAC512(secret)).build().verify(token);
-            return true;
-        }catch (Exception e){
-            log.error("유효하지 않은 Token입니다", e.getMessage());
-            return false;
-        }
+        return verify(token).isPresent();
     }
 }
\ No newline at end of file
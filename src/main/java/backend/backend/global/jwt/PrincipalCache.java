@@ -0,0 +1,52 @@
+package backend.backend.global.jwt;
+
+import backend.backend.global.util.security.MemberPrincipal;
+import backend.backend.repository.MemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 액세스 토큰 검증 후 사용할 회원 정보를 이메일 기준으로 캐싱한다.
+ * 요청마다 회원을 조회하지 않도록 하며, 크기와 TTL 로 제한하고 토큰 폐기 시 무효화한다.
+ * 적중률은 cache.gets{cache="principal"} 메트릭으로 확인한다.
+ */
+@Component
+public class PrincipalCache implements MeterBinder {
+
+    private final MemberRepository memberRepository;
+    private final Cache<String, MemberPrincipal> cache;
+
+    public PrincipalCache(MemberRepository memberRepository,
+                          @Value("${jwt.principal-cache.ttl-seconds}") long ttlSeconds,
+                          @Value("${jwt.principal-cache.maximum-size}") long maximumSize) {
+        this.memberRepository = memberRepository;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    // 캐시에 없으면 회원을 조회해 적재한다. 존재하지 않는 회원은 캐싱하지 않는다.
+    public Optional<MemberPrincipal> get(String email) {
+        return Optional.ofNullable(cache.get(email,
+                key -> memberRepository.findByEmail(key).map(MemberPrincipal::from).orElse(null)));
+    }
+
+    public void invalidate(String email) {
+        cache.invalidate(email);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "principal");
+    }
+}
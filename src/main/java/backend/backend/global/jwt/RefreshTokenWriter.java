@@ -0,0 +1,161 @@
+package backend.backend.global.jwt;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 시 발급한 리프레시 토큰을 모아서 저장하는 write-behind 저장기.
+ * 동시에 들어온 로그인의 토큰을 flush-interval 동안 모아 한 번의 JDBC 배치, 한 트랜잭션으로 INSERT 한다.
+ * 반환된 future 는 커밋 이후 완료되므로, 호출자는 응답 전에 기다려 저장을 보장할 수 있다.
+ * 큐가 가득 차면 호출 스레드에서 바로 저장해 처리량을 제한한다. (back-pressure)
+ */
+@Slf4j
+@Component
+public class RefreshTokenWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO refresh_token (token_hash, member_id, expires_at, created_at) VALUES (?, ?, ?, ?)";
+    // 종료 요청(running)을 확인하는 주기
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingToken> queue;
+    private final int maxBatchSize;
+    private final long flushIntervalMillis;
+    private final long awaitTimeoutMillis;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public RefreshTokenWriter(JdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${jwt.refresh.writer.queue-capacity}") int queueCapacity,
+                              @Value("${jwt.refresh.writer.max-batch-size}") int maxBatchSize,
+                              @Value("${jwt.refresh.writer.flush-interval-ms}") long flushIntervalMillis,
+                              @Value("${jwt.refresh.writer.await-timeout-ms}") long awaitTimeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.awaitTimeoutMillis = awaitTimeoutMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::run, "refresh-token-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    // 종료 시 큐에 남은 토큰을 모두 저장한 뒤 멈춘다.
+    // 인터럽트하면 모으던 배치를 잃을 수 있으므로 running 으로만 멈추고, 저장기 스레드가 끝난 뒤 큐를 다시 비운다.
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerThread.join(awaitTimeoutMillis);
+
+        List<PendingToken> remaining = new ArrayList<>(maxBatchSize);
+        while (queue.drainTo(remaining, maxBatchSize) > 0) {
+            flush(remaining);
+            remaining = new ArrayList<>(maxBatchSize);
+        }
+    }
+
+    public CompletableFuture<Void> write(String tokenHash, Long memberId, LocalDateTime expiresAt, LocalDateTime createdAt) {
+        PendingToken token = new PendingToken(tokenHash, memberId, expiresAt, createdAt, new CompletableFuture<>());
+        if (!running) {
+            log.debug("리프레시 토큰 저장기가 종료되어 요청 스레드에서 저장합니다.");
+            flush(List.of(token));
+            return token.result();
+        }
+        if (!queue.offer(token)) {
+            log.warn("리프레시 토큰 저장 큐가 가득 차 요청 스레드에서 저장합니다.");
+            flush(List.of(token));
+            return token.result();
+        }
+        // 큐에 넣는 사이 종료가 시작됐다면 stop() 이 큐를 비운 뒤일 수 있으므로, 아직 남아 있으면 직접 저장한다.
+        if (!running && queue.remove(token)) {
+            flush(List.of(token));
+            return token.result();
+        }
+        return token.result().orTimeout(awaitTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void run() {
+        while (running) {
+            PendingToken first;
+            try {
+                first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first != null) {
+                flush(collectBatch(first));
+            }
+        }
+    }
+
+    // 첫 토큰이 들어온 뒤 flush-interval 동안(또는 max-batch-size 까지) 함께 들어온 토큰을 모은다.
+    // 인터럽트되어도 이미 큐에서 꺼낸 토큰은 돌려줘 저장되게 한다.
+    private List<PendingToken> collectBatch(PendingToken first) {
+        List<PendingToken> batch = new ArrayList<>(maxBatchSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        while (running && batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            PendingToken next;
+            try {
+                next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void flush(List<PendingToken> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(),
+                    (ps, token) -> {
+                        ps.setString(1, token.tokenHash());
+                        ps.setLong(2, token.memberId());
+                        ps.setTimestamp(3, Timestamp.valueOf(token.expiresAt()));
+                        ps.setTimestamp(4, Timestamp.valueOf(token.createdAt()));
+                    }));
+            batch.forEach(token -> token.result().complete(null));
+        } catch (RuntimeException e) {
+            log.error("리프레시 토큰 저장에 실패했습니다. 건수: {}", batch.size(), e);
+            batch.forEach(token -> token.result().completeExceptionally(e));
+        }
+    }
+
+    private record PendingToken(String tokenHash, Long memberId, LocalDateTime expiresAt, LocalDateTime createdAt,
+                                CompletableFuture<Void> result) {
+    }
+}
@@ -1,8 +1,8 @@
 package backend.backend.global.jwt.filter;
 
-import backend.backend.domain.Member;
 import backend.backend.global.jwt.JwtService;
-import backend.backend.repository.MemberRepository;
+import backend.backend.global.jwt.PrincipalCache;
+import backend.backend.global.util.security.MemberPrincipal;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,8 +14,6 @@ import org.springframework.security.core.authority.mapping.GrantedAuthoritiesMap
 import org.springframework.security.core.authority.mapping.NullAuthoritiesMapper;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
@@ -24,7 +22,7 @@ import java.io.IOException;
 public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final MemberRepository memberRepository;
+    private final PrincipalCache principalCache;
 
     private GrantedAuthoritiesMapper authoritiesMapper = new NullAuthoritiesMapper();
 
@@ -51,23 +49,17 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
     }
 
     private void checkAccessTokenAndAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        jwtService.extractAccessToken(request).filter(jwtService::isTokenValid).ifPresent(
-                accessToken -> jwtService.extractUsername(accessToken).ifPresent(
-                        email -> memberRepository.findByEmail(email).ifPresent(
-                                this::saveAuthentication
-                        )
-                )
-        );
+        // extractUsername 에서 서명 검증과 디코딩을 한 번에 처리한다.
+        jwtService.extractAccessToken(request)
+                .flatMap(jwtService::extractUsername)
+                .flatMap(principalCache::get)
+                .ifPresent(this::saveAuthentication);
         filterChain.doFilter(request,response);
     }
 
-    private void saveAuthentication(Member member) {
-        UserDetails user = User.builder()
-                .username(member.getEmail())
-                .password(member.getPassword())
-                .build();
-
-        Authentication authentication = new UsernamePasswordAuthenticationToken(user, null,authoritiesMapper.mapAuthorities(user.getAuthorities()));
+    // 캐시된 회원 정보로 인증 객체를 만들어 요청마다 회원을 조회하지 않는다.
+    private void saveAuthentication(MemberPrincipal principal) {
+        Authentication authentication = new UsernamePasswordAuthenticationToken(principal, null,authoritiesMapper.mapAuthorities(principal.getAuthorities()));
 
         SecurityContext context = SecurityContextHolder.createEmptyContext();
         context.setAuthentication(authentication);
@@ -75,8 +67,6 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
     }
 
     private void checkRefreshTokenAndReIssueAccessToken(HttpServletResponse response, String refreshToken) {
-        memberRepository.findByRefreshToken(refreshToken).ifPresent(
-                member -> jwtService.sendAccessToken(response, jwtService.createAccessToken(member.getEmail()))
-        );
+        jwtService.reIssueTokens(response, refreshToken);
     }
-}
+}
\ No newline at end of file
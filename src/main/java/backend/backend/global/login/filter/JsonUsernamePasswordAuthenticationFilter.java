@@ -1,20 +1,27 @@
 package backend.backend.global.login.filter;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.AbstractAuthenticationProcessingFilter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
-import org.springframework.util.StreamUtils;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.Map;
 
 public class JsonUsernamePasswordAuthenticationFilter extends AbstractAuthenticationProcessingFilter {
 
@@ -22,7 +29,9 @@ public class JsonUsernamePasswordAuthenticationFilter extends AbstractAuthentica
 
     private static final String HTTP_METHOD = "POST";    //HTTP 메서드의 방식은 POST 이다.
 
-    private static final String CONTENT_TYPE = "application/json";//json 타입의 데이터로만 로그인을 진행한다.
+    private static final MediaType CONTENT_TYPE = MediaType.APPLICATION_JSON;//json 타입의 데이터로만 로그인을 진행한다. (charset 파라미터 허용)
+
+    private static final int MAX_BODY_BYTES = 4 * 1024; // 로그인 요청 본문 최대 크기
 
     private final ObjectMapper objectMapper;
 
@@ -43,19 +52,101 @@ public class JsonUsernamePasswordAuthenticationFilter extends AbstractAuthentica
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException, IOException, ServletException {
 
-        if(request.getContentType() == null || !request.getContentType().equals(CONTENT_TYPE)  ) {
-            throw new AuthenticationServiceException("Authentication Content-Type not supported: " + request.getContentType());
-        }
-
-        String messageBody = StreamUtils.copyToString(request.getInputStream(), StandardCharsets.UTF_8);
+        MediaType contentType = parseContentType(request.getContentType());
 
-        Map<String, String> usernamePasswordMap = objectMapper.readValue(messageBody, Map.class);
+        if(request.getContentLengthLong() > MAX_BODY_BYTES) {
+            throw new AuthenticationServiceException("Authentication request body too large: " + request.getContentLengthLong());
+        }
 
-        String username = usernamePasswordMap.get(USERNAME_KEY);
-        String password = usernamePasswordMap.get(PASSWORD_KEY);
+        // 본문 전체를 문자열/Map 으로 만들지 않고 username, password 값만 스트리밍으로 읽는다.
+        String username = null;
+        String password = null;
+        try (JsonParser parser = createParser(new LimitedInputStream(request.getInputStream(), MAX_BODY_BYTES), contentType.getCharset())) {
+            if(parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new AuthenticationServiceException("Authentication request body must be a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                if(USERNAME_KEY.equals(fieldName) && valueToken == JsonToken.VALUE_STRING) {
+                    username = parser.getText();
+                } else if(PASSWORD_KEY.equals(fieldName) && valueToken == JsonToken.VALUE_STRING) {
+                    password = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (JsonProcessingException | BodyTooLargeException e) {
+            throw new AuthenticationServiceException("Invalid authentication request body", e);
+        }
 
         UsernamePasswordAuthenticationToken authRequest = new UsernamePasswordAuthenticationToken(username, password); //principal 과 credentials 전달
 
         return this.getAuthenticationManager().authenticate(authRequest);
     }
-}
\ No newline at end of file
+
+    private MediaType parseContentType(String contentType) {
+        try {
+            if(contentType != null) {
+                MediaType mediaType = MediaType.parseMediaType(contentType);
+                if(CONTENT_TYPE.includes(mediaType)) {
+                    return mediaType;
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            // 아래에서 지원하지 않는 Content-Type 으로 처리
+        }
+        throw new AuthenticationServiceException("Authentication Content-Type not supported: " + contentType);
+    }
+
+    // JSON 기본 인코딩(UTF-8)이 아닌 charset 이 명시된 경우에만 Reader 로 디코딩한다.
+    private JsonParser createParser(InputStream inputStream, Charset charset) throws IOException {
+        if(charset == null || StandardCharsets.UTF_8.equals(charset)) {
+            return objectMapper.getFactory().createParser(inputStream);
+        }
+        return objectMapper.getFactory().createParser(new InputStreamReader(inputStream, charset));
+    }
+
+    private static class BodyTooLargeException extends IOException {
+        BodyTooLargeException(int maxBytes) {
+            super("Authentication request body exceeds " + maxBytes + " bytes");
+        }
+    }
+
+    // Content-Length 가 없거나 잘못된 경우(chunked 등)에도 최대 크기를 넘겨 읽지 않도록 제한한다.
+    private static class LimitedInputStream extends FilterInputStream {
+
+        private final int maxBytes;
+        private int readBytes;
+
+        LimitedInputStream(InputStream in, int maxBytes) {
+            super(in);
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if(b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if(n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(int n) throws BodyTooLargeException {
+            readBytes += n;
+            if(readBytes > maxBytes) {
+                throw new BodyTooLargeException(maxBytes);
+            }
+        }
+    }
+}
@@ -1,45 +1,47 @@
 package backend.backend.global.login.handler;
 
 import backend.backend.global.jwt.JwtService;
-import backend.backend.repository.MemberRepository;
+import backend.backend.global.util.security.MemberPrincipal;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 
 import java.io.IOException;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @RequiredArgsConstructor
 public class LoginSuccessJWTProvideHandler extends SimpleUrlAuthenticationSuccessHandler {
 
     private final JwtService jwtService;
-    private final MemberRepository memberRepository;
 
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException, ServletException {
 
-        String email = extractUsername(authentication);
+        MemberPrincipal principal = (MemberPrincipal) authentication.getPrincipal();
+        String email = principal.getUsername();
         String accessToken = jwtService.createAccessToken(email);
         String refreshToken = jwtService.createRefreshToken();
 
+        // 저장되지 않은 RefreshToken 을 내려주지 않도록 커밋될 때까지 기다린 뒤 응답한다.
+        try {
+            jwtService.updateRefreshToken(principal.getId(), refreshToken).join();
+        } catch (CompletionException e) {
+            log.error("RefreshToken 저장에 실패했습니다. username: {}", email, e.getCause());
+            response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            response.setContentType("application/json");
+            response.setCharacterEncoding("UTF-8");
+            response.getWriter().write("{\"status\":500,\"code\":\"SRV-001\",\"message\":\"서버 내부 오류가 발생했습니다.\"}");
+            return;
+        }
         jwtService.sendAccessAndRefreshToken(response, accessToken, refreshToken);
-        memberRepository.findByEmail(email).ifPresent(
-                member -> member.updateRefreshToken(refreshToken)
-        );
 
         log.info("로그인에 성공합니다. username: {}", email);
         log.info("AccessToken 및 RefreshToken을 발급했습니다.");
     }
-
-
-    private String extractUsername(Authentication authentication){
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        return userDetails.getUsername();
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,40 @@
+package backend.backend.global.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * 요청 하나를 처리하는 동안 실행된 SQL 문장 수를 X-SQL-Count 응답 헤더로 내려준다. (prod 프로필 제외)
+ * 인증 필터의 회원 조회까지 포함하도록 가장 먼저 실행되며,
+ * 응답이 커밋되기 전에 헤더를 붙이기 위해 본문을 버퍼링했다가 마지막에 내보낸다.
+ */
+@Component
+@Profile("!prod")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlCountHeaderFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-SQL-Count";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        SqlStatementCounter.start();
+        try {
+            filterChain.doFilter(request, responseWrapper);
+        } finally {
+            responseWrapper.setHeader(HEADER, String.valueOf(SqlStatementCounter.stop()));
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+}
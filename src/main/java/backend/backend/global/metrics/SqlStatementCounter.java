@@ -0,0 +1,33 @@
+package backend.backend.global.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 실행을 위해 준비하는 SQL 문장 수를 스레드 단위로 센다.
+ * hibernate.session_factory.statement_inspector 로 등록되며, start() 를 호출한 스레드에서만 센다.
+ * (요청 스레드 밖에서 실행되는 비동기 작업의 SQL 은 포함되지 않는다)
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = new ThreadLocal<>();
+
+    public static void start() {
+        COUNT.set(new long[1]);
+    }
+
+    // 센 문장 수를 반환하고 집계를 끝낸다. start() 없이 호출하면 0 을 반환한다.
+    public static long stop() {
+        long[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        long[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,51 @@
+package backend.backend.global.scheduler;
+
+import backend.backend.repository.PostRepository;
+import backend.backend.service.LikeCountAggregator;
+import backend.backend.service.PostDetailCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글의 like_count, comment_count 컬럼을 likes, comment 테이블 기준으로 주기적으로 재계산한다.
+ * 쓰기 경로에서 누락되거나 어긋난 카운트를 바로잡기 위한 용도이며,
+ * post.count.reconcile-on-startup 을 켜면 서버 시작 시에도 한 번 실행해 비정상 종료로 반영되지 못한 좋아요 증감분을 복구한다.
+ * (전체 게시글을 UPDATE 하므로 기본값은 꺼져 있다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCountReconciliationScheduler {
+
+    private final PostRepository postRepository;
+    private final LikeCountAggregator likeCountAggregator;
+    private final PostDetailCache postDetailCache;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${post.count.reconcile-on-startup}")
+    private boolean reconcileOnStartup;
+
+    @Scheduled(cron = "${post.count.reconcile-cron}")
+    public void reconcile() {
+        // 좋아요 증감 기록을 막고 남은 증감분을 별도 트랜잭션으로 반영한 뒤 재계산해야,
+        // 재계산에 포함된 좋아요가 반영 전 증감분으로 다시 더해지지 않는다. (재계산도 잠금 안에서 커밋한다)
+        int updatedCount = likeCountAggregator.reconcile(
+                () -> transactionTemplate.execute(status -> postRepository.reconcileCounts()));
+        // 재계산으로 바뀐 카운트가 캐시된 게시글 상세에 남지 않도록 비운다.
+        postDetailCache.clear();
+        log.info("게시글 좋아요/댓글 수 재계산을 완료했습니다. 대상 게시글 수: {}", updatedCount);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (reconcileOnStartup) {
+            reconcile();
+        }
+    }
+}
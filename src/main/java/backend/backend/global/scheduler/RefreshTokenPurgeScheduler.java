@@ -0,0 +1,28 @@
+package backend.backend.global.scheduler;
+
+import backend.backend.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료된 리프레시 토큰을 주기적으로 한 번에 삭제한다. (expires_at 인덱스 사용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenPurgeScheduler {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Transactional
+    @Scheduled(cron = "${jwt.refresh.purge-cron}")
+    public void purge() {
+        int deletedCount = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        log.info("만료된 리프레시 토큰을 삭제했습니다. 삭제 수: {}", deletedCount);
+    }
+}
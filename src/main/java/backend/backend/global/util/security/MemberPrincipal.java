@@ -0,0 +1,30 @@
+package backend.backend.global.util.security;
+
+import backend.backend.domain.Member;
+import lombok.Getter;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * 인증된 회원 정보. username 은 이메일이며, 회원 id 와 닉네임/이모지를 함께 담아 서비스에서 회원을 다시 조회하지 않게 한다.
+ * 로그인 시(LoginService)에는 비밀번호 검증을 위해 암호화된 비밀번호를 담는다.
+ */
+@Getter
+public class MemberPrincipal extends User {
+
+    private final Long id;
+    private final String nickName;
+    private final String emoji;
+
+    public MemberPrincipal(Long id, String email, String password, String nickName, String emoji) {
+        super(email, password, AuthorityUtils.NO_AUTHORITIES);
+        this.id = id;
+        this.nickName = nickName;
+        this.emoji = emoji;
+    }
+
+    // 캐시에 보관하는 용도이므로 비밀번호는 담지 않는다.
+    public static MemberPrincipal from(Member member) {
+        return new MemberPrincipal(member.getId(), member.getEmail(), "", member.getNickName(), member.getEmoji());
+    }
+}
@@ -6,6 +6,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.util.Optional;
+
 public class SecurityUtil {
     public static String getLoginEmail(){
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -18,4 +20,30 @@ public class SecurityUtil {
         }
         throw new BusinessException(ResponseCode.AUTH_REQUIRED);
     }
-}
\ No newline at end of file
+
+    // JWT 필터가 담아둔 MemberPrincipal 을 꺼낸다. (회원 조회 없음)
+    public static MemberPrincipal getLoginMember(){
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new BusinessException(ResponseCode.AUTH_REQUIRED);
+        }
+        if (authentication.getPrincipal() instanceof MemberPrincipal memberPrincipal) {
+            return memberPrincipal;
+        }
+        throw new BusinessException(ResponseCode.AUTH_REQUIRED);
+    }
+
+    public static Long getLoginMemberId(){
+        return getLoginMember().getId();
+    }
+
+    // 로그인하지 않았으면 예외 대신 빈 값을 반환한다.
+    public static Optional<Long> findLoginMemberId(){
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && authentication.getPrincipal() instanceof MemberPrincipal memberPrincipal) {
+            return Optional.ofNullable(memberPrincipal.getId());
+        }
+        return Optional.empty();
+    }
+}
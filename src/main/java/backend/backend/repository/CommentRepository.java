@@ -2,10 +2,13 @@ package backend.backend.repository;
 
 import backend.backend.domain.Comment;
 import backend.backend.domain.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,5 +20,38 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT c FROM Comment c WHERE c.parent.id = :parentId AND c.activeStatus <> 'DELETED'")
     List<Comment> findChildrenComments(@Param("parentId") Long parentId);
 
-    int countCommentByPostId(Long postId);
+    @Query("SELECT c FROM Comment c JOIN FETCH c.member " +
+            "WHERE c.post.id = :postId AND c.parent IS NULL ORDER BY c.createdAt, c.id")
+    List<Comment> findRootComments(@Param("postId") Long postId, Pageable pageable);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.member " +
+            "WHERE c.post.id = :postId AND c.parent IS NULL " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt, c.id")
+    List<Comment> findRootCommentsAfter(@Param("postId") Long postId, @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.member WHERE c.parent.id = :parentId ORDER BY c.createdAt, c.id")
+    List<Comment> findReplies(@Param("parentId") Long parentId, Pageable pageable);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.member " +
+            "WHERE c.parent.id = :parentId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt, c.id")
+    List<Comment> findRepliesAfter(@Param("parentId") Long parentId, @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id, Pageable pageable);
+
+    // 부모 댓글마다 (created_at, comment_id) 순으로 앞에서 limit 개의 대댓글 id 만 조회한다.
+    @Query(value = "SELECT r.comment_id FROM (" +
+            "SELECT c.comment_id, ROW_NUMBER() OVER (PARTITION BY c.parent_comment_id ORDER BY c.created_at, c.comment_id) AS rn " +
+            "FROM comment c WHERE c.parent_comment_id IN (:parentIds) AND c.active_status <> 'DELETED'" +
+            ") r WHERE r.rn <= :limit", nativeQuery = true)
+    List<Long> findFirstReplyIds(@Param("parentIds") Collection<Long> parentIds, @Param("limit") int limit);
+
+    // 대댓글이 하나라도 있는 부모 댓글 id (대댓글을 싣지 않고 존재 여부만 알려줄 때)
+    @Query("SELECT DISTINCT c.parent.id FROM Comment c WHERE c.parent.id IN :parentIds AND c.activeStatus <> 'DELETED'")
+    List<Long> findParentIdsHavingReplies(@Param("parentIds") Collection<Long> parentIds);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.member WHERE c.id IN :ids ORDER BY c.createdAt, c.id")
+    List<Comment> findAllWithMemberByIdIn(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -1,16 +1,44 @@
 package backend.backend.repository;
 
 import backend.backend.domain.Likes;
-import backend.backend.domain.Member;
-import backend.backend.domain.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface LikesRepository extends JpaRepository<Likes, Long> {
-    Optional<Likes> findByMemberAndPost(Member member, Post post);
 
-    int countLikesByPostId(Long id);
-}
\ No newline at end of file
+    /**
+     * 삭제되지 않은 게시글이고 아직 좋아요하지 않았을 때만 INSERT 한다. (한 번의 왕복)
+     * 0 이면 이미 좋아요했거나 게시글이 없는 것이며, 동시에 같은 요청이 들어오면 uk_likes_member_post 위반이 발생한다.
+     * like_id 는 엔티티와 같은 likes_seq 에서 받는다. (pooled 옵티마이저가 쓰는 구간과 겹치지 않는다)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO likes (like_id, member_id, post_id) " +
+            "SELECT NEXT VALUE FOR likes_seq, :memberId, p.post_id FROM post p " +
+            "WHERE p.post_id = :postId AND p.active_status <> 'DELETED' " +
+            "AND NOT EXISTS (SELECT 1 FROM likes l WHERE l.member_id = :memberId AND l.post_id = :postId)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("memberId") Long memberId, @Param("postId") Long postId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Likes l WHERE l.member.id = :memberId AND l.post.id = :postId")
+    int deleteByMemberIdAndPostId(@Param("memberId") Long memberId, @Param("postId") Long postId);
+
+    // 한 페이지의 게시글 중 회원이 좋아요한 게시글 id (IN 한 번)
+    @Query("SELECT l.post.id FROM Likes l WHERE l.member.id = :memberId AND l.post.id IN :postIds")
+    List<Long> findLikedPostIds(@Param("memberId") Long memberId, @Param("postIds") Collection<Long> postIds);
+
+    // 좋아요 상태 캐시 적재용. 개수 상한을 넘는지 확인할 수 있도록 pageable 로 잘라 읽는다.
+    @Query("SELECT l.post.id FROM Likes l WHERE l.member.id = :memberId")
+    List<Long> findPostIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+}
@@ -0,0 +1,12 @@
+package backend.backend.repository;
+
+import backend.backend.domain.enums.MeetingCategory;
+
+/**
+ * 카테고리별 모임 수 (category, count) 프로젝션
+ */
+public interface MeetingCategoryCount {
+    MeetingCategory getCategory();
+
+    Long getCount();
+}
@@ -0,0 +1,11 @@
+package backend.backend.repository;
+
+import backend.backend.domain.mapping.MeetingMember;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MeetingMemberRepository extends JpaRepository<MeetingMember, Long> {
+
+    boolean existsByMeetingIdAndMemberId(Long meetingId, Long memberId);
+
+    long countByMeetingId(Long meetingId);
+}
@@ -4,9 +4,33 @@ import backend.backend.domain.Meeting;
 import backend.backend.domain.enums.MeetingCategory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface MeetingRepository extends JpaRepository<Meeting, Long> {
 
     Page<Meeting> findAllByCategory(PageRequest id, MeetingCategory category);
+
+    @Query("SELECT m FROM Meeting m LEFT JOIN FETCH m.owner WHERE m.id = :meetingId")
+    Optional<Meeting> findWithOwnerById(@Param("meetingId") Long meetingId);
+
+    Slice<Meeting> findSliceBy(Pageable pageable);
+
+    Slice<Meeting> findSliceByCategory(MeetingCategory category, Pageable pageable);
+
+    @Query("SELECT m.category AS category, COUNT(m) AS count FROM Meeting m GROUP BY m.category")
+    List<MeetingCategoryCount> countGroupByCategory();
+
+    // 정원 확인과 증가를 한 문장으로 처리한다. 0 이 반환되면 모임이 없거나 정원이 찬 것이다.
+    @Modifying
+    @Query("UPDATE Meeting m SET m.participantCount = m.participantCount + 1 " +
+            "WHERE m.id = :meetingId AND m.participantCount < m.limitNumberOfPeople")
+    int incrementParticipantCount(@Param("meetingId") Long meetingId);
 }
@@ -1,7 +1,50 @@
 package backend.backend.repository;
 
 import backend.backend.domain.Post;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
+
+    @EntityGraph(attributePaths = "member")
+    @Query(value = "SELECT p FROM post p", countQuery = "SELECT COUNT(p) FROM post p")
+    Page<Post> findAllWithMember(Pageable pageable);
+
+    // Slice 반환이므로 COUNT 쿼리 없이 size + 1 개만 조회한다.
+    @EntityGraph(attributePaths = "member")
+    @Query("SELECT p FROM post p")
+    Slice<Post> findSliceWithMember(Pageable pageable);
+
+    @EntityGraph(attributePaths = "member")
+    @Query("SELECT p FROM post p ORDER BY p.id DESC")
+    List<Post> findFeed(Pageable pageable);
+
+    @EntityGraph(attributePaths = "member")
+    @Query("SELECT p FROM post p WHERE p.id < :cursor ORDER BY p.id DESC")
+    List<Post> findFeedBefore(@Param("cursor") Long cursor, Pageable pageable);
+
+    @EntityGraph(attributePaths = "member")
+    @Query("SELECT p FROM post p WHERE p.id = :postId")
+    Optional<Post> findWithMemberById(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    // likes, comment 테이블 기준으로 모든 게시글의 좋아요/댓글 수를 다시 계산한다.
+    @Modifying
+    @Query(value = "UPDATE post p SET " +
+            "like_count = (SELECT COUNT(*) FROM likes l WHERE l.post_id = p.post_id), " +
+            "comment_count = (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.post_id AND c.active_status <> 'DELETED')",
+            nativeQuery = true)
+    int reconcileCounts();
 }
@@ -0,0 +1,38 @@
+package backend.backend.repository;
+
+import backend.backend.domain.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    // PK 가 직접 할당되는 엔티티라 save() 는 merge 전에 SELECT 를 실행하므로 INSERT 만 실행한다.
+    @Modifying
+    @Query(value = "INSERT INTO refresh_token (token_hash, member_id, expires_at, created_at) " +
+            "VALUES (:tokenHash, :memberId, :expiresAt, :createdAt)", nativeQuery = true)
+    int insert(@Param("tokenHash") String tokenHash,
+               @Param("memberId") Long memberId,
+               @Param("expiresAt") LocalDateTime expiresAt,
+               @Param("createdAt") LocalDateTime createdAt);
+
+    @Query("SELECT t FROM RefreshToken t JOIN FETCH t.member WHERE t.tokenHash = :tokenHash AND t.expiresAt > :now")
+    Optional<RefreshToken> findValidWithMember(@Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
+
+    // 토큰 교체(rotation) 시 사용 처리. 동시에 같은 토큰으로 요청하면 한 요청만 1 을 받는다.
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.member.id = :memberId")
+    int deleteAllByMemberId(@Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,69 @@
+package backend.backend.service;
+
+import backend.backend.domain.enums.MeetingCategory;
+import backend.backend.repository.MeetingCategoryCount;
+import backend.backend.repository.MeetingRepository;
+import backend.backend.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 슬라이스 조회에서 페이지 수가 필요한 클라이언트를 위한 근사 전체 개수.
+ * 요청마다 COUNT(*) 를 실행하지 않고, 주기적으로 갱신한 값을 메모리에서 반환한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApproximateCountService {
+
+    private final PostRepository postRepository;
+    private final MeetingRepository meetingRepository;
+
+    private volatile Totals totals;
+
+    public long getPostTotal() {
+        return snapshot().postTotal();
+    }
+
+    public long getMeetingTotal(MeetingCategory category) {
+        Totals current = snapshot();
+        if (category == null) {
+            return current.meetingTotal();
+        }
+        return current.meetingTotalByCategory().getOrDefault(category, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${count.approximate.refresh-interval-ms}")
+    public void refresh() {
+        long postTotal = postRepository.count();
+
+        long meetingTotal = 0;
+        Map<MeetingCategory, Long> meetingTotalByCategory = new EnumMap<>(MeetingCategory.class);
+        for (MeetingCategoryCount count : meetingRepository.countGroupByCategory()) {
+            meetingTotal += count.getCount();
+            if (count.getCategory() != null) {
+                meetingTotalByCategory.put(count.getCategory(), count.getCount());
+            }
+        }
+
+        totals = new Totals(postTotal, meetingTotal, meetingTotalByCategory);
+        log.debug("근사 전체 개수를 갱신했습니다. post: {}, meeting: {}", postTotal, meetingTotal);
+    }
+
+    private Totals snapshot() {
+        Totals current = totals;
+        if (current == null) {
+            refresh();
+            current = totals;
+        }
+        return current;
+    }
+
+    private record Totals(long postTotal, long meetingTotal, Map<MeetingCategory, Long> meetingTotalByCategory) {
+    }
+}
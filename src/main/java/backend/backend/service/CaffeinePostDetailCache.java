@@ -0,0 +1,113 @@
+package backend.backend.service;
+
+import backend.backend.domain.dto.commentDto.CommentResponseDto;
+import backend.backend.domain.dto.postDto.PostResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 게시글 상세 스냅샷을 프로세스 메모리에 보관한다. (기본 구현)
+ * 댓글 수에 따라 항목 크기가 크게 달라지므로 개수 대신 추정 바이트 수(weigher)로 상한을 두어,
+ * 댓글이 많은 게시글 몇 개가 메모리를 독차지하지 않게 한다.
+ * 적중률/제거 수는 cache.*{cache="post-detail"} 메트릭으로 확인한다.
+ */
+@Component
+@ConditionalOnProperty(name = "post.detail-cache.type", havingValue = "caffeine", matchIfMissing = true)
+public class CaffeinePostDetailCache implements PostDetailCache, MeterBinder {
+
+    private static final int POST_OVERHEAD_BYTES = 256;
+    private static final int COMMENT_OVERHEAD_BYTES = 160;
+
+    private final Cache<Long, PostResponseDto> cache;
+    private final EvictionVersions versions = new EvictionVersions();
+
+    public CaffeinePostDetailCache(@Value("${post.detail-cache.ttl-seconds}") long ttlSeconds,
+                                   @Value("${post.detail-cache.maximum-weight-bytes}") long maximumWeightBytes) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumWeight(maximumWeightBytes)
+                .weigher((Long postId, PostResponseDto postResponseDto) -> estimateBytes(postResponseDto))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Optional<PostResponseDto> get(Long postId) {
+        return Optional.ofNullable(cache.getIfPresent(postId)).map(PostResponseDto::copy);
+    }
+
+    @Override
+    public long version(Long postId) {
+        return versions.current(postId);
+    }
+
+    @Override
+    public void put(Long postId, PostResponseDto postResponseDto, long version) {
+        if (!versions.isCurrent(postId, version)) {
+            return;
+        }
+        cache.put(postId, postResponseDto.copy());
+        // 확인과 저장 사이에 무효화가 끼어들었으면 방금 저장한 스냅샷을 지운다.
+        if (!versions.isCurrent(postId, version)) {
+            cache.invalidate(postId);
+        }
+    }
+
+    @Override
+    public void evict(Long postId) {
+        versions.bump(postId);
+        cache.invalidate(postId);
+    }
+
+    @Override
+    public void clear() {
+        versions.bumpAll();
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "post-detail");
+    }
+
+    // 문자열은 문자당 2바이트, 객체 헤더/필드는 고정 오버헤드로 어림한다.
+    static int estimateBytes(PostResponseDto postResponseDto) {
+        long bytes = POST_OVERHEAD_BYTES + 2L * (length(postResponseDto.getTitle())
+                + length(postResponseDto.getContent())
+                + length(postResponseDto.getNickName())
+                + length(postResponseDto.getEmoji())
+                + length(postResponseDto.getEmail())
+                + length(postResponseDto.getCommentNextCursor()));
+        bytes += estimateBytes(postResponseDto.getCommentList());
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static long estimateBytes(List<CommentResponseDto> comments) {
+        if (comments == null) {
+            return 0;
+        }
+        long bytes = 0;
+        for (CommentResponseDto comment : comments) {
+            bytes += COMMENT_OVERHEAD_BYTES + 2L * (length(comment.getContent())
+                    + length(comment.getNickname())
+                    + length(comment.getEmoji())
+                    + length(comment.getReplyCursor()));
+            bytes += estimateBytes(comment.getChildren());
+        }
+        return bytes;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
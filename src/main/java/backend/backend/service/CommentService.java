@@ -6,38 +6,53 @@ import backend.backend.domain.Post;
 import backend.backend.domain.common.BusinessException;
 import backend.backend.domain.common.ResponseCode;
 import backend.backend.domain.dto.Response;
+import backend.backend.domain.dto.SliceResponse;
+import backend.backend.domain.dto.commentDto.CommentCursor;
 import backend.backend.domain.dto.commentDto.CommentRequestDto;
 import backend.backend.domain.dto.commentDto.CommentResponseDto;
+import backend.backend.global.util.security.MemberPrincipal;
 import backend.backend.repository.CommentRepository;
 import backend.backend.repository.MemberRepository;
 import backend.backend.repository.PostRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class CommentService {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int DEFAULT_REPLY_SIZE = 3;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PostRepository postRepository;
     private final MemberRepository memberRepository;
     private final CommentRepository commentRepository;
+    private final PostDetailCache postDetailCache;
 
 
-    public CommentResponseDto createComment(Long postId, Long commentId, CommentRequestDto requestDto, String memberEmail) {
+    public CommentResponseDto createComment(Long postId, Long commentId, CommentRequestDto requestDto, MemberPrincipal writer) {
 
         Post post = postRepository.findById(postId).orElseThrow(() -> new BusinessException(ResponseCode.CMT_POST_NOT_FOUND));
 
-        Member member = memberRepository.findByEmail(memberEmail).orElseThrow(() -> new BusinessException(ResponseCode.CMT_AUTHENTICATION_FAIL));
+        // 인증 시 확인된 회원이므로 다시 조회하지 않고 FK 용 참조와 principal 의 닉네임/이모지를 사용한다.
+        Member member = memberRepository.getReferenceById(writer.getId());
 
         Comment comment;
         if (commentId == 0) {
-            comment = commentRepository.save(new Comment(requestDto.getContent(), member.getNickName(), post, member));
+            comment = commentRepository.save(new Comment(requestDto.getContent(), writer.getNickName(), post, member));
         } else {
             Comment childComment = commentRepository.findById(commentId).orElseThrow(
                     () -> new BusinessException(ResponseCode.CMT_PARENT_NOT_FOUND));
@@ -46,9 +61,11 @@ public class CommentService {
                 throw new BusinessException(ResponseCode.CMT_PARENT_NOT_FOUND);
             }
 
-            comment = commentRepository.save(new Comment(requestDto.getContent(), member.getNickName(), post, member, childComment));
+            comment = commentRepository.save(new Comment(requestDto.getContent(), writer.getNickName(), post, member, childComment));
         }
-        return new CommentResponseDto(comment, commentId);
+        postRepository.addCommentCount(post.getId(), 1);
+        postDetailCache.evictAfterCommit(postId);
+        return new CommentResponseDto(comment, commentId, writer.getEmoji());
     }
 
 
@@ -69,6 +86,114 @@ public class CommentService {
     }
 
 
+    @Transactional(readOnly = true)
+    public SliceResponse<CommentResponseDto> getComments(Long postId, String cursor, int size, int replySize) {
+        if (!postRepository.existsById(postId)) {
+            throw new BusinessException(ResponseCode.CMT_POST_NOT_FOUND);
+        }
+        return readCommentPage(postId, cursor, size, replySize);
+    }
+
+    /**
+     * 루트 댓글을 (created_at, comment_id) 키셋 커서로 한 페이지 조회하고,
+     * 각 루트 댓글에 앞쪽 replySize 개의 대댓글과 다음 대댓글 커서, 대댓글 존재 여부(hasReplies)를 붙인다.
+     */
+    @Transactional(readOnly = true)
+    public SliceResponse<CommentResponseDto> readCommentPage(Long postId, String cursor, int size, int replySize) {
+        int pageSize = clampSize(size);
+        CommentCursor after = CommentCursor.decode(cursor);
+        Pageable limit = PageRequest.ofSize(pageSize + 1);
+
+        List<Comment> roots = after == null
+                ? commentRepository.findRootComments(postId, limit)
+                : commentRepository.findRootCommentsAfter(postId, after.createdAt(), after.id(), limit);
+        boolean hasNext = roots.size() > pageSize;
+        if (hasNext) {
+            roots = roots.subList(0, pageSize);
+        }
+
+        List<CommentResponseDto> content = attachFirstReplies(roots, Math.min(Math.max(replySize, 0), MAX_PAGE_SIZE));
+        String nextCursor = hasNext ? CommentCursor.from(roots.get(roots.size() - 1)).encode() : null;
+        return SliceResponse.of(content, hasNext, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public SliceResponse<CommentResponseDto> getReplies(Long commentId, String cursor, int size) {
+        if (!commentRepository.existsById(commentId)) {
+            throw new BusinessException(ResponseCode.CMT_NOT_FOUND);
+        }
+        int pageSize = clampSize(size);
+        CommentCursor after = CommentCursor.decode(cursor);
+        Pageable limit = PageRequest.ofSize(pageSize + 1);
+
+        List<Comment> replies = after == null
+                ? commentRepository.findReplies(commentId, limit)
+                : commentRepository.findRepliesAfter(commentId, after.createdAt(), after.id(), limit);
+        boolean hasNext = replies.size() > pageSize;
+        if (hasNext) {
+            replies = replies.subList(0, pageSize);
+        }
+
+        List<CommentResponseDto> content = new ArrayList<>();
+        for (Comment reply : replies) {
+            content.add(new CommentResponseDto(reply, commentId));
+        }
+        String nextCursor = hasNext ? CommentCursor.from(replies.get(replies.size() - 1)).encode() : null;
+        return SliceResponse.of(content, hasNext, nextCursor);
+    }
+
+    private List<CommentResponseDto> attachFirstReplies(List<Comment> roots, int replySize) {
+        if (roots.isEmpty()) {
+            return CommentTreeAssembler.assemble(roots);
+        }
+
+        List<Long> rootIds = roots.stream().map(Comment::getId).toList();
+        if (replySize == 0) {
+            // 대댓글은 싣지 않지만, 대댓글 API 로 첫 페이지를 조회할 수 있도록 존재 여부는 알려준다.
+            Set<Long> rootsWithReplies = new HashSet<>(commentRepository.findParentIdsHavingReplies(rootIds));
+            List<CommentResponseDto> content = CommentTreeAssembler.assemble(roots);
+            for (CommentResponseDto dto : content) {
+                dto.setHasReplies(rootsWithReplies.contains(dto.getId()));
+            }
+            return content;
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 부모마다 하나씩 더 조회한다.
+        List<Long> replyIds = commentRepository.findFirstReplyIds(rootIds, replySize + 1);
+        List<Comment> replies = replyIds.isEmpty() ? List.of() : commentRepository.findAllWithMemberByIdIn(replyIds);
+
+        Map<Long, List<Comment>> repliesByParent = new HashMap<>();
+        for (Comment reply : replies) {
+            repliesByParent.computeIfAbsent(reply.getParent().getId(), key -> new ArrayList<>()).add(reply);
+        }
+
+        List<Comment> comments = new ArrayList<>(roots);
+        Map<Long, String> replyCursors = new HashMap<>();
+        Set<Long> rootsWithReplies = new HashSet<>();
+        for (Comment root : roots) {
+            List<Comment> rootReplies = repliesByParent.getOrDefault(root.getId(), List.of());
+            if (!rootReplies.isEmpty()) {
+                rootsWithReplies.add(root.getId());
+            }
+            if (rootReplies.size() > replySize) {
+                rootReplies = rootReplies.subList(0, replySize);
+                replyCursors.put(root.getId(), CommentCursor.from(rootReplies.get(replySize - 1)).encode());
+            }
+            comments.addAll(rootReplies);
+        }
+
+        List<CommentResponseDto> content = CommentTreeAssembler.assemble(comments);
+        for (CommentResponseDto dto : content) {
+            dto.setReplyCursor(replyCursors.get(dto.getId()));
+            dto.setHasReplies(rootsWithReplies.contains(dto.getId()));
+        }
+        return content;
+    }
+
+    private static int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
     public CommentResponseDto updateComment(Long id, CommentRequestDto requestDto, String memberEmail) {
         Comment comment = commentRepository.findById(id).orElseThrow(
                 () -> new BusinessException(ResponseCode.CMT_NOT_FOUND)
@@ -76,6 +201,7 @@ public class CommentService {
 
         if (comment.getMember().getEmail().equals(memberEmail)) {
             comment.update(requestDto.getContent());
+            postDetailCache.evictAfterCommit(comment.getPost().getId());
         } else {
             throw new BusinessException(ResponseCode.CMT_AUTHENTICATION_FAIL);
         }
@@ -88,7 +214,10 @@ public class CommentService {
                 () -> new BusinessException(ResponseCode.CMT_NOT_FOUND)
         );
         if (comment.getMember().getEmail().equals(memberEmail)) {
+            int deletedCount = comment.countWithDescendants();
             commentRepository.deleteById(id);
+            postRepository.addCommentCount(comment.getPost().getId(), -deletedCount);
+            postDetailCache.evictAfterCommit(comment.getPost().getId());
         } else {
             throw new BusinessException(ResponseCode.CMT_AUTHENTICATION_FAIL);
         }
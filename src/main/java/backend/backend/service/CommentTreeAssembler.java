@@ -0,0 +1,40 @@
+package backend.backend.service;
+
+import backend.backend.domain.Comment;
+import backend.backend.domain.dto.commentDto.CommentResponseDto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 평면 댓글 목록을 parent_comment_id 기준으로 한 번만 순회하여 댓글 트리로 조립한다.
+ * 입력 순서가 각 레벨의 출력 순서가 되며, 부모가 목록에 없는 댓글은 제외한다.
+ */
+public final class CommentTreeAssembler {
+
+    private CommentTreeAssembler() {
+    }
+
+    public static List<CommentResponseDto> assemble(List<Comment> comments) {
+        Map<Long, CommentResponseDto> dtoById = new LinkedHashMap<>();
+        for (Comment comment : comments) {
+            Long parentId = comment.getParent() == null ? null : comment.getParent().getId();
+            dtoById.put(comment.getId(), new CommentResponseDto(comment, parentId));
+        }
+
+        List<CommentResponseDto> roots = new ArrayList<>();
+        for (CommentResponseDto dto : dtoById.values()) {
+            if (dto.getParentId() == null) {
+                roots.add(dto);
+                continue;
+            }
+            CommentResponseDto parent = dtoById.get(dto.getParentId());
+            if (parent != null) {
+                parent.getChildren().add(dto);
+            }
+        }
+        return roots;
+    }
+}
@@ -0,0 +1,39 @@
+package backend.backend.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * PostDetailCache 구현에서 쓰는 무효화 버전. 무효화(evict/clear)마다 버전을 올리고,
+ * 조회 전에 읽은 버전이 저장 시점에 달라졌으면 저장하지 않아 무효화 이전에 읽은 스냅샷이 다시 들어가지 않게 한다.
+ * 게시글마다 두지 않고 고정 개수의 슬롯을 나눠 쓰므로 메모리가 늘지 않으며,
+ * 같은 슬롯의 다른 게시글이 무효화되면 저장을 한 번 건너뛸 뿐이다.
+ */
+final class EvictionVersions {
+
+    private static final int SLOTS = 1024;
+
+    private final AtomicLongArray versions = new AtomicLongArray(SLOTS);
+
+    long current(Long postId) {
+        return versions.get(slot(postId));
+    }
+
+    boolean isCurrent(Long postId, long version) {
+        return current(postId) == version;
+    }
+
+    // 항목을 지우기 전에 호출해야, 그 사이에 저장한 쪽이 버전 변경을 보고 스스로 지운다.
+    void bump(Long postId) {
+        versions.incrementAndGet(slot(postId));
+    }
+
+    void bumpAll() {
+        for (int i = 0; i < SLOTS; i++) {
+            versions.incrementAndGet(i);
+        }
+    }
+
+    private int slot(Long postId) {
+        return Long.hashCode(postId) & (SLOTS - 1);
+    }
+}
@@ -0,0 +1,160 @@
+package backend.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.IntSupplier;
+
+/**
+ * 게시글별 좋아요 수 증감을 메모리(LongAdder)에 모았다가 주기적으로 한 번의 배치 UPDATE 로 반영한다.
+ * 인기 게시글에 좋아요가 몰려도 post 행에 대한 UPDATE 경합(row lock)이 생기지 않는다.
+ * 반영 전 증감분은 조회 시 pendingDelta 로 더해주며, 서버가 비정상 종료되어 잃어버린 증감분은
+ * likes 테이블 기준 재계산(PostCountReconciliationScheduler)으로 복구한다.
+ * 반영이 커밋되면 해당 게시글의 PostDetailCache 스냅샷을 무효화한다. 무효화는 좋아요마다가 아니라 반영 주기마다 한 번이다.
+ */
+@Slf4j
+@Service
+public class LikeCountAggregator {
+
+    private static final String UPDATE_SQL = "UPDATE post SET like_count = like_count + ? WHERE post_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostDetailCache postDetailCache;
+
+    // 증감 기록은 공유(read) 모드, 버퍼 교체와 재계산은 배타(write) 모드로 잡아 교체 이후 이전 버퍼에 기록되지 않게 한다.
+    // 공유 잠금은 좋아요 INSERT/DELETE 의 DB 왕복 동안 유지되므로 완전한 lock-free 는 아니다.
+    // 좋아요끼리는 서로 막지 않지만, flush 의 버퍼 교체는 진행 중인 좋아요 쿼리가 끝날 때까지 기다리고,
+    // 재계산 중에는 좋아요가 재계산이 끝날 때까지 대기한다. 행 변경과 증감 기록 사이에 재계산이 끼어들어
+    // 증감분이 두 번 더해지거나 빠지는 것을 막기 위한 대가다.
+    private final StampedLock swapLock = new StampedLock();
+    private volatile Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private volatile Map<Long, LongAdder> flushing = Map.of();
+
+    public LikeCountAggregator(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                               PostDetailCache postDetailCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 호출한 쪽의 트랜잭션에 참여하면 반영 후 flushing 을 비운 뒤에 롤백될 수 있으므로 항상 별도 트랜잭션으로 커밋한다.
+        this.transactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.postDetailCache = postDetailCache;
+    }
+
+    /**
+     * 좋아요 행을 변경(INSERT/DELETE 후 커밋)하고 변경된 행 수 * deltaPerRow 만큼 증감을 기록한다.
+     * 커밋과 기록 사이에 재계산이 실행되면 재계산에 포함된 좋아요가 다시 더해지므로, 공유 잠금 안에서 함께 실행한다.
+     */
+    public int apply(Long postId, int deltaPerRow, IntSupplier change) {
+        long stamp = swapLock.readLock();
+        try {
+            int changedCount = change.getAsInt();
+            if (changedCount > 0) {
+                record(postId, (long) changedCount * deltaPerRow);
+            }
+            return changedCount;
+        } finally {
+            swapLock.unlockRead(stamp);
+        }
+    }
+
+    // 아직 DB 에 반영되지 않은 증감분
+    public long pendingDelta(Long postId) {
+        return sum(pending.get(postId)) + sum(flushing.get(postId));
+    }
+
+    @Scheduled(fixedDelayString = "${post.like.flush-interval-ms}")
+    public synchronized void flush() {
+        Map<Long, LongAdder> snapshot;
+        long stamp = swapLock.writeLock();
+        try {
+            snapshot = swap();
+        } finally {
+            swapLock.unlockWrite(stamp);
+        }
+        write(snapshot);
+    }
+
+    /**
+     * 증감 기록을 막은 상태에서 남은 증감분을 반영한 뒤 recount 를 실행한다.
+     * 잠금을 잡으면 커밋된 좋아요의 증감은 모두 기록되어 있고 이후 좋아요는 recount 가 끝날 때까지 대기하므로,
+     * recount 에 포함된 좋아요가 반영 전 증감분으로 다시 더해지지 않는다.
+     * 남은 증감분을 반영하지 못하면 recount 를 실행하지 않는다.
+     */
+    public synchronized int reconcile(IntSupplier recount) {
+        long stamp = swapLock.writeLock();
+        try {
+            if (!write(swap())) {
+                throw new IllegalStateException("반영하지 못한 좋아요 증감분이 있어 재계산을 건너뜁니다.");
+            }
+            return recount.getAsInt();
+        } finally {
+            swapLock.unlockWrite(stamp);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void record(Long postId, long delta) {
+        pending.computeIfAbsent(postId, key -> new LongAdder()).add(delta);
+    }
+
+    // 배타 잠금을 잡은 상태에서 호출한다.
+    private Map<Long, LongAdder> swap() {
+        Map<Long, LongAdder> snapshot = pending;
+        flushing = snapshot;
+        pending = new ConcurrentHashMap<>();
+        return snapshot;
+    }
+
+    // 반영에 실패한 증감분은 pending 으로 되돌려 다음 주기에 다시 시도한다. (교체는 flush/reconcile 안에서만 일어난다)
+    private boolean write(Map<Long, LongAdder> snapshot) {
+        if (snapshot.isEmpty()) {
+            flushing = Map.of();
+            return true;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(snapshot.size());
+        snapshot.forEach((postId, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                batchArgs.add(new Object[]{delta, postId});
+            }
+        });
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_SQL, batchArgs));
+        } catch (RuntimeException e) {
+            log.error("좋아요 수 반영에 실패했습니다. 대상 게시글 수: {}", batchArgs.size(), e);
+            snapshot.forEach((postId, adder) -> record(postId, adder.sum()));
+            flushing = Map.of();
+            return false;
+        }
+
+        try {
+            // 스냅샷을 고치면 커밋과 원자적이지 않아 틀린 값이 TTL 동안 남을 수 있으므로 무효화 후 DB 에서 다시 채운다.
+            // flushing 을 비우기 전에 무효화해야 이전 스냅샷에 증감분이 빠진 채로 조회되는 구간이 생기지 않는다.
+            batchArgs.forEach(args -> postDetailCache.evict((Long) args[1]));
+        } finally {
+            flushing = Map.of();
+        }
+        return true;
+    }
+
+    private long sum(LongAdder adder) {
+        return adder == null ? 0 : adder.sum();
+    }
+}
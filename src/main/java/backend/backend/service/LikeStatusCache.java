@@ -0,0 +1,159 @@
+package backend.backend.service;
+
+import backend.backend.repository.LikesRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 회원별로 좋아요한 게시글 id 의 블룸 필터를 캐싱한다.
+ * 필터에 없는 게시글은 좋아요하지 않은 것이 확실하므로 DB 를 조회하지 않고,
+ * 필터에 있을 수도 있는 게시글만 IN (:postIds) 한 번으로 확인한다.
+ * 좋아요 취소는 필터에서 지울 수 없지만 DB 확인 단계에서 걸러지므로 결과는 정확하다.
+ * 적중률은 cache.gets{cache="like-status"} 메트릭으로 확인한다.
+ */
+@Component
+public class LikeStatusCache implements MeterBinder {
+
+    private final LikesRepository likesRepository;
+    private final Cache<Long, LikedPostFilter> cache;
+    private final int maxLoadedLikes;
+
+    public LikeStatusCache(LikesRepository likesRepository,
+                           @Value("${post.like.status-cache.ttl-seconds}") long ttlSeconds,
+                           @Value("${post.like.status-cache.maximum-size}") long maximumSize,
+                           @Value("${post.like.status-cache.max-loaded-likes}") int maxLoadedLikes) {
+        this.likesRepository = likesRepository;
+        this.maxLoadedLikes = maxLoadedLikes;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    // postIds 중 회원이 좋아요한 게시글 id 를 반환한다.
+    public Set<Long> findLikedPostIds(Long memberId, Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Set.of();
+        }
+        LikedPostFilter filter = cache.get(memberId, this::load);
+        List<Long> candidates = postIds.stream().filter(filter::mightContain).toList();
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(likesRepository.findLikedPostIds(memberId, candidates));
+    }
+
+    /**
+     * 좋아요가 저장된 뒤 호출한다. 필터가 적재 중이면 적재가 끝날 때까지 기다렸다가 반영하고,
+     * 캐시에 없으면 다음 조회 때 DB 에서 새로 적재되므로 아무것도 하지 않는다.
+     */
+    public void recordLike(Long memberId, Long postId) {
+        cache.asMap().computeIfPresent(memberId, (key, filter) -> {
+            if (!filter.put(postId)) {
+                // 예상 개수를 넘어 오탐률이 높아졌으므로 다음 조회 때 다시 적재한다.
+                return null;
+            }
+            return filter;
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "like-status");
+    }
+
+    private LikedPostFilter load(Long memberId) {
+        List<Long> likedPostIds = likesRepository.findPostIdsByMemberId(memberId, PageRequest.ofSize(maxLoadedLikes + 1));
+        if (likedPostIds.size() > maxLoadedLikes) {
+            // 좋아요가 너무 많은 회원은 필터 없이 매번 DB 로 확인한다.
+            return LikedPostFilter.MATCH_ALL;
+        }
+        LikedPostFilter filter = new LikedPostFilter(likedPostIds.size() * 2);
+        likedPostIds.forEach(filter::put);
+        return filter;
+    }
+
+    /**
+     * 오탐률 약 1% (원소당 10비트, 해시 7개) 의 블룸 필터. 예상 개수를 넘으면 put 이 false 를 반환한다.
+     */
+    static class LikedPostFilter {
+        private static final int MIN_EXPECTED = 64;
+        private static final int BITS_PER_ELEMENT = 10;
+        private static final int HASH_COUNT = 7;
+        static final LikedPostFilter MATCH_ALL = new LikedPostFilter(0) {
+            @Override
+            boolean mightContain(Long postId) {
+                return true;
+            }
+
+            @Override
+            boolean put(Long postId) {
+                return true;
+            }
+        };
+
+        private final AtomicLongArray bits;
+        private final long bitSize;
+        private final int capacity;
+        private int count;
+
+        LikedPostFilter(int expected) {
+            this.capacity = Math.max(expected, MIN_EXPECTED);
+            this.bits = new AtomicLongArray((int) ((long) capacity * BITS_PER_ELEMENT / Long.SIZE) + 1);
+            this.bitSize = (long) bits.length() * Long.SIZE;
+        }
+
+        boolean mightContain(Long postId) {
+            long hash = mix(postId);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= HASH_COUNT; i++) {
+                long index = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bitSize;
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // 캐시의 computeIfPresent 안에서만 호출되어 회원별로 직렬화된다.
+        boolean put(Long postId) {
+            long hash = mix(postId);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= HASH_COUNT; i++) {
+                long index = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bitSize;
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long current;
+                while (((current = bits.get(word)) & mask) == 0
+                        && !bits.compareAndSet(word, current, current | mask)) {
+                    // 다른 비트가 동시에 바뀐 경우 다시 시도한다.
+                }
+            }
+            return ++count <= capacity;
+        }
+
+        // SplitMix64 finalizer. 연속된 id 도 비트가 고르게 퍼지도록 섞는다.
+        private static long mix(long value) {
+            long z = value + 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
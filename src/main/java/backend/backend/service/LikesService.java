@@ -1,52 +1,79 @@
 package backend.backend.service;
 
-import backend.backend.domain.Likes;
-import backend.backend.domain.Member;
-import backend.backend.domain.Post;
 import backend.backend.domain.common.BusinessException;
 import backend.backend.domain.common.ResponseCode;
 import backend.backend.repository.LikesRepository;
-import backend.backend.repository.MemberRepository;
 import backend.backend.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Locale;
+
+/**
+ * 좋아요/취소는 각각 한 문장(INSERT-IF-ABSENT, DELETE)으로 처리하며 반복 요청에도 결과가 같다.
+ * 반환값은 상태가 실제로 바뀌었는지 여부이다.
+ */
 @Service
 @RequiredArgsConstructor
 public class LikesService {
 
+    private static final String LIKE_UNIQUE_CONSTRAINT = "uk_likes_member_post";
+
     private final LikesRepository likesRepository;
-    private final MemberRepository memberRepository;
     private final PostRepository postRepository;
+    private final LikeCountAggregator likeCountAggregator;
+    private final LikeStatusCache likeStatusCache;
 
-    @Transactional
-    public void likePost(Long postId, String memberEmail) {
-        Member member = memberRepository.findByEmail(memberEmail)
-                .orElseThrow(() -> new BusinessException(ResponseCode.LIK_MEMBER_NOT_FOUND));
-
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new BusinessException(ResponseCode.LIK_POST_NOT_FOUND));
-
-        if (likesRepository.findByMemberAndPost(member, post).isPresent()) {
-            throw new BusinessException(ResponseCode.LIK_ALREADY_LIKED);
+    public boolean likePost(Long postId, Long memberId) {
+        int insertedCount;
+        try {
+            // 좋아요 행 커밋과 증감 기록 사이에 재계산이 끼어들지 않도록 집계기 안에서 함께 실행한다.
+            insertedCount = likeCountAggregator.apply(postId, 1, () -> likesRepository.insertIfAbsent(memberId, postId));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 좋아요가 동시에 들어와 다른 요청이 먼저 저장한 경우만 중복으로 본다.
+            // 탈퇴한 회원의 토큰으로 요청한 경우 등 외래 키 위반은 그대로 던진다.
+            if (!isDuplicateLike(e)) {
+                throw e;
+            }
+            return false;
         }
 
-        Likes likes = new Likes(member, post);
-        likesRepository.save(likes);
+        if (insertedCount == 0) {
+            if (!postRepository.existsById(postId)) {
+                throw new BusinessException(ResponseCode.LIK_POST_NOT_FOUND);
+            }
+            return false;
+        }
+        likeStatusCache.recordLike(memberId, postId);
+        return true;
     }
 
-    @Transactional
-    public void unlikePost(Long postId, String memberEmail) {
-        Member member = memberRepository.findByEmail(memberEmail)
-                .orElseThrow(() -> new BusinessException(ResponseCode.LIK_MEMBER_NOT_FOUND));
-
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new BusinessException(ResponseCode.LIK_POST_NOT_FOUND));
-
-        Likes like = likesRepository.findByMemberAndPost(member, post)
-                .orElseThrow(() -> new BusinessException(ResponseCode.LIK_NOT_FOUND));
+    public boolean unlikePost(Long postId, Long memberId) {
+        if (likeCountAggregator.apply(postId, -1, () -> likesRepository.deleteByMemberIdAndPostId(memberId, postId)) == 0) {
+            if (!postRepository.existsById(postId)) {
+                throw new BusinessException(ResponseCode.LIK_POST_NOT_FOUND);
+            }
+            return false;
+        }
+        // 블룸 필터에서는 지울 수 없으며, 조회 시 DB 확인 단계에서 걸러진다.
+        return true;
+    }
 
-        likesRepository.delete(like);
+    // (member_id, post_id) 유니크 제약 위반인지 확인한다. DB 마다 제약 이름에 접두어/접미어가 붙을 수 있어 포함 여부로 비교한다.
+    private boolean isDuplicateLike(DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException) {
+            return true;
+        }
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String constraintName = violation.getConstraintName();
+                return constraintName != null
+                        && constraintName.toLowerCase(Locale.ROOT).contains(LIKE_UNIQUE_CONSTRAINT);
+            }
+        }
+        return false;
     }
 }
@@ -1,26 +1,40 @@
 package backend.backend.service;
 
 import backend.backend.domain.Member;
+import backend.backend.global.util.security.MemberPrincipal;
 import backend.backend.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class LoginService implements UserDetailsService {
+public class LoginService implements UserDetailsService, UserDetailsPasswordService {
 
     private final MemberRepository memberRepository;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         Member member = memberRepository.findByEmail(username).orElseThrow(() -> new UsernameNotFoundException("아이디가 없습니다"));
-        return User.builder()
-                .username(member.getEmail())
-                .password(member.getPassword())
-                .build();
+        // 로그인 성공 핸들러가 회원을 다시 조회하지 않도록 id 를 함께 담는다.
+        return new MemberPrincipal(member.getId(), member.getEmail(), member.getPassword(),
+                member.getNickName(), member.getEmoji());
+    }
+
+    /**
+     * 로그인에 성공했지만 저장된 해시의 비용(strength)이 현재 설정보다 낮을 때
+     * DaoAuthenticationProvider 가 새로 암호화한 비밀번호로 호출한다.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Member member = memberRepository.findByEmail(user.getUsername()).orElseThrow(() -> new UsernameNotFoundException("아이디가 없습니다"));
+        member.updatePassword(newPassword);
+        return new MemberPrincipal(member.getId(), member.getEmail(), newPassword,
+                member.getNickName(), member.getEmoji());
     }
 }
@@ -3,18 +3,23 @@ package backend.backend.service;
 
 import backend.backend.domain.Meeting;
 import backend.backend.domain.Member;
+import backend.backend.domain.dto.SliceResponse;
 import backend.backend.domain.dto.meetingDto.MeetingRequestDTO;
 import backend.backend.domain.dto.meetingDto.MeetingResponseDTO;
 import backend.backend.domain.enums.MeetingCategory;
+import backend.backend.domain.mapping.MeetingMember;
 import backend.backend.domain.common.BusinessException;
 import backend.backend.domain.common.ResponseCode;
 import backend.backend.global.util.security.SecurityUtil;
+import backend.backend.repository.MeetingMemberRepository;
 import backend.backend.repository.MeetingRepository;
 import backend.backend.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,34 +31,55 @@ public class MeetingService {
 
     private final MemberRepository memberRepository;
     private final MeetingRepository meetingRepository;
+    private final MeetingMemberRepository meetingMemberRepository;
+    private final ApproximateCountService approximateCountService;
 
     public Page<MeetingResponseDTO.getListDTO> getList(Pageable pageable, MeetingCategory category) {
-        int page = pageable.getPageNumber() - 1; // page 위치에 있는 값은 0부터 시작한다.
-        int pageLimit = 3; // 한페이지에 보여줄 글 개수
+        PageRequest pageRequest = toPageRequest(pageable);
         Page<Meeting> postsPages;
         if(category != null) {
-            postsPages = meetingRepository.findAllByCategory(PageRequest.of(page, pageLimit, Sort.by(Sort.Direction.DESC, "id")), category);
+            postsPages = meetingRepository.findAllByCategory(pageRequest, category);
         }
         else {
-            postsPages = meetingRepository.findAll(PageRequest.of(page, pageLimit, Sort.by(Sort.Direction.DESC, "id")));
+            postsPages = meetingRepository.findAll(pageRequest);
         }
 
         // 목록 : id, title, content, author
-        Page<MeetingResponseDTO.getListDTO> meetingResponseDto = postsPages.map(
-                postPage -> new MeetingResponseDTO.getListDTO(postPage.getId(),
-                        postPage.getTitle(),
-                        postPage.getCategory(),
-                        postPage.getWeek(),
-                        postPage.getTime(),
-                        postPage.getLimitNumberOfPeople(),
-                        postPage.getMembers().size()));
-        return meetingResponseDto;
+        return postsPages.map(this::toListDto);
+    }
+
+    // COUNT 쿼리 없이 다음 페이지 존재 여부만 조회하고, 전체 개수는 근사값으로 대신한다.
+    public SliceResponse<MeetingResponseDTO.getListDTO> getSlice(Pageable pageable, MeetingCategory category) {
+        PageRequest pageRequest = toPageRequest(pageable);
+        Slice<Meeting> meetingSlice;
+        if(category != null) {
+            meetingSlice = meetingRepository.findSliceByCategory(category, pageRequest);
+        }
+        else {
+            meetingSlice = meetingRepository.findSliceBy(pageRequest);
+        }
+
+        return SliceResponse.of(meetingSlice.map(this::toListDto), approximateCountService.getMeetingTotal(category));
+    }
+
+    private PageRequest toPageRequest(Pageable pageable) {
+        int page = pageable.getPageNumber() - 1; // page 위치에 있는 값은 0부터 시작한다.
+        return PageRequest.of(page, pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "id"));
+    }
+
+    private MeetingResponseDTO.getListDTO toListDto(Meeting meeting) {
+        return new MeetingResponseDTO.getListDTO(meeting.getId(),
+                meeting.getTitle(),
+                meeting.getCategory(),
+                meeting.getWeek(),
+                meeting.getTime(),
+                meeting.getLimitNumberOfPeople(),
+                meeting.getParticipantCount());
     }
 
     @Transactional
     public void post(MeetingRequestDTO.MeetingPostDto meetingPostDto) {
-        Member owner = memberRepository.findByEmail(SecurityUtil.getLoginEmail())
-                .orElseThrow(() -> new BusinessException(ResponseCode.MTG_AUTHENTICATION_FAIL));
+        Member owner = memberRepository.getReferenceById(SecurityUtil.getLoginMemberId());
 
         Meeting meeting = Meeting.builder()
                 .title(meetingPostDto.title())
@@ -68,26 +94,43 @@ public class MeetingService {
         meetingRepository.save(meeting);
     }
 
+    /**
+     * 참여자 목록을 읽지 않고 참여를 처리한다.
+     * 정원은 participant_count 조건부 UPDATE 로, 중복 참여는 (meeting_id, member_id) 유니크 제약으로 막으므로
+     * 동시에 여러 요청이 들어와도 정원을 초과하거나 같은 회원이 두 번 참여할 수 없다.
+     */
     @Transactional
     public void joinMeeting(Long meetingId) {
+        Long memberId = SecurityUtil.getLoginMemberId();
 
-        Meeting meeting = meetingRepository.findById(meetingId)
-                .orElseThrow(() -> new BusinessException(ResponseCode.MTG_NOT_FOUND));
-        Member member = memberRepository.findByEmail(SecurityUtil.getLoginEmail())
-                .orElseThrow(() -> new BusinessException(ResponseCode.MTG_AUTHENTICATION_FAIL));
+        if (meetingRepository.incrementParticipantCount(meetingId) == 0) {
+            if (!meetingRepository.existsById(meetingId)) {
+                throw new BusinessException(ResponseCode.MTG_NOT_FOUND);
+            }
+            if (meetingMemberRepository.existsByMeetingIdAndMemberId(meetingId, memberId)) {
+                throw new BusinessException(ResponseCode.MTG_ALREADY_JOINED);
+            }
+            throw new BusinessException(ResponseCode.MTG_CAPACITY_FULL);
+        }
 
-        meeting.join(member);
+        try {
+            meetingMemberRepository.saveAndFlush(new MeetingMember(meetingRepository.getReferenceById(meetingId),
+                    memberRepository.getReferenceById(memberId)));
+        } catch (DataIntegrityViolationException e) {
+            // 예외가 전파되면서 트랜잭션이 롤백되어 위에서 증가시킨 참여 인원도 되돌려진다.
+            throw new BusinessException(ResponseCode.MTG_ALREADY_JOINED);
+        }
     }
 
     public MeetingResponseDTO.getOneDTO getOne(Long meetingId) {
-        Meeting meeting = meetingRepository.findById(meetingId)
+        Meeting meeting = meetingRepository.findWithOwnerById(meetingId)
                 .orElseThrow(() -> new BusinessException(ResponseCode.MTG_NOT_FOUND));
         return MeetingResponseDTO.getOneDTO.builder()
                 .title(meeting.getTitle())
                 .week(meeting.getWeek())
                 .time(meeting.getTime())
                 .limitNumberOfPeople(meeting.getLimitNumberOfPeople())
-                .numberOfParticipants(meeting.getMembers().size())
+                .numberOfParticipants(meeting.getParticipantCount())
                 .description(meeting.getDescription())
                 .ownerId(meeting.getOwner().getId())
                 .ownerName(meeting.getOwner().getNickName())
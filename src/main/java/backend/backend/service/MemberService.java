@@ -5,6 +5,7 @@ import backend.backend.domain.common.BusinessException;
 import backend.backend.domain.common.ResponseCode;
 import backend.backend.domain.dto.memberDto.MemberRequestDto;
 import backend.backend.domain.dto.memberDto.MemberResponseDto;
+import backend.backend.global.util.security.MemberPrincipal;
 import backend.backend.global.util.security.SecurityUtil;
 import backend.backend.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,11 @@ public class MemberService {
 
     @Transactional
     public void signUp(MemberRequestDto.SignUpDto memberSignUpDto) {
+        // 비용이 큰 비밀번호 암호화 전에 중복 이메일을 먼저 확인한다.
+        if(memberRepository.existsByEmail(memberSignUpDto.email())){
+            throw new BusinessException(ResponseCode.MBR_ALREADY_EXISTS);
+        }
+
         Member member = Member.builder()
                 .email(memberSignUpDto.email())
                 .password(memberSignUpDto.password())
@@ -32,19 +38,15 @@ public class MemberService {
                 .build();
         member.encodePassword(passwordEncoder);
 
-        if(memberRepository.findByEmail(memberSignUpDto.email()).isPresent()){
-            throw new BusinessException(ResponseCode.MBR_ALREADY_EXISTS);
-        }
-
         memberRepository.save(member);
     }
 
+    // JWT 필터가 담아둔 principal 로 응답하므로 회원을 조회하지 않는다.
     public MemberResponseDto.InfoDto getMyInfo() {
-        Member member = memberRepository.findByEmail(SecurityUtil.getLoginEmail())
-                .orElseThrow(() -> new BusinessException(ResponseCode.MBR_NOT_FOUND));
+        MemberPrincipal member = SecurityUtil.getLoginMember();
         return MemberResponseDto.InfoDto.builder()
                 .id(member.getId())
-                .email(member.getEmail())
+                .email(member.getUsername())
                 .nickName(member.getNickName())
                 .emoji(member.getEmoji())
                 .build();
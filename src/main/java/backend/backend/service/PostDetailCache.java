@@ -0,0 +1,49 @@
+package backend.backend.service;
+
+import backend.backend.domain.dto.postDto.PostResponseDto;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+/**
+ * 조립이 끝난 게시글 상세 응답(PostResponseDto)의 스냅샷 캐시.
+ * 스냅샷에는 요청마다 달라지는 값(반영 전 좋아요 증감분, 좋아요 여부)을 넣지 않으며,
+ * get 은 복사본을 돌려주므로 호출자가 수정해도 캐시에 영향이 없다.
+ * 구현은 post.detail-cache.type 으로 고른다. (caffeine: 프로세스 내 캐시, serialized: 공유 캐시 대신 쓰는 직렬화 캐시)
+ */
+public interface PostDetailCache {
+
+    Optional<PostResponseDto> get(Long postId);
+
+    // DB 에서 읽기 전에 호출해 put 에 넘긴다. 그 사이 무효화가 있었으면 put 은 저장하지 않는다.
+    long version(Long postId);
+
+    void put(Long postId, PostResponseDto postResponseDto, long version);
+
+    void evict(Long postId);
+
+    void clear();
+
+    // 트랜잭션 안에서 호출되면 커밋 후에 무효화해, 커밋 전 데이터로 다시 채워지지 않게 한다.
+    default void evictAfterCommit(Long postId) {
+        runAfterCommit(() -> evict(postId));
+    }
+
+    default void clearAfterCommit() {
+        runAfterCommit(this::clear);
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
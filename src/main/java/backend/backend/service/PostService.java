@@ -1,75 +1,109 @@
 package backend.backend.service;
 
-import backend.backend.domain.Comment;
 import backend.backend.domain.Member;
 import backend.backend.domain.Post;
 import backend.backend.domain.common.BusinessException;
 import backend.backend.domain.common.ResponseCode;
 import backend.backend.domain.dto.Response;
+import backend.backend.domain.dto.SliceResponse;
 import backend.backend.domain.dto.commentDto.CommentResponseDto;
 import backend.backend.domain.dto.postDto.PostRequestDto;
 import backend.backend.domain.dto.postDto.PostResponseDto;
-import backend.backend.repository.CommentRepository;
-import backend.backend.repository.LikesRepository;
+import backend.backend.global.util.security.MemberPrincipal;
+import backend.backend.global.util.security.SecurityUtil;
 import backend.backend.repository.MemberRepository;
 import backend.backend.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostService {
+    private static final int MAX_FEED_SIZE = 100;
+
     private final PostRepository postRepository;
     private final MemberRepository memberRepository;
-    private final LikesRepository likesRepository;
-    private final CommentRepository commentRepository;
+    private final CommentService commentService;
+    private final ApproximateCountService approximateCountService;
+    private final LikeCountAggregator likeCountAggregator;
+    private final LikeStatusCache likeStatusCache;
+    private final PostDetailCache postDetailCache;
 
     public Page<PostResponseDto> getPostList(Pageable pageable) {
-        Page<Post> posts = postRepository.findAll(pageable);
-        return posts.map(post -> {
-            int likeCount = likesRepository.countLikesByPostId(post.getId());
-            int commentCount = commentRepository.countCommentByPostId(post.getId());
-            return new PostResponseDto(post, commentCount, likeCount);
-        });
+        Page<PostResponseDto> posts = postRepository.findAllWithMember(pageable).map(this::toResponseDto);
+        markLikedByMe(posts.getContent());
+        return posts;
+    }
+
+    // 전체 개수 대신 주기적으로 갱신되는 근사값을 내려주어 목록 조회마다 COUNT 쿼리를 실행하지 않는다.
+    public SliceResponse<PostResponseDto> getPostSlice(Pageable pageable) {
+        Slice<PostResponseDto> posts = postRepository.findSliceWithMember(pageable).map(this::toResponseDto);
+        markLikedByMe(posts.getContent());
+        return SliceResponse.of(posts, approximateCountService.getPostTotal());
+    }
+
+    /**
+     * 키셋(seek) 방식 피드 조회. post_id < cursor 조건으로 size + 1 개를 읽어 다음 페이지 여부를 판단하며,
+     * 전체 개수(COUNT) 쿼리는 실행하지 않는다. cursor 가 없으면 첫 페이지를 조회한다.
+     */
+    public SliceResponse<PostResponseDto> getPostFeed(Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_FEED_SIZE);
+        Pageable limit = PageRequest.ofSize(pageSize + 1);
+
+        List<Post> posts = cursor == null
+                ? postRepository.findFeed(limit)
+                : postRepository.findFeedBefore(cursor, limit);
+        boolean hasNext = posts.size() > pageSize;
+        if (hasNext) {
+            posts = posts.subList(0, pageSize);
+        }
+
+        List<PostResponseDto> content = posts.stream().map(this::toResponseDto).toList();
+        markLikedByMe(content);
+        String nextCursor = hasNext ? String.valueOf(posts.get(posts.size() - 1).getId()) : null;
+        return SliceResponse.of(content, hasNext, nextCursor);
     }
 
     @Transactional
-    public PostResponseDto createPost(PostRequestDto postRequestDto, String memberEmail) {
-        Member member = memberRepository.findByEmail(memberEmail)
-                .orElseThrow(() -> new BusinessException(ResponseCode.MBR_NOT_FOUND));
+    public PostResponseDto createPost(PostRequestDto postRequestDto, MemberPrincipal writer) {
+        // 인증 시 확인된 회원이므로 다시 조회하지 않고 FK 용 참조만 사용한다.
+        Member member = memberRepository.getReferenceById(writer.getId());
 
         Post post = postRepository.save(new Post(postRequestDto.getTitle(), postRequestDto.getContent(), member));
-        return new PostResponseDto(post);
+        return new PostResponseDto(post, writer.getNickName(), writer.getEmoji(), writer.getUsername());
     }
 
+    // 조립한 응답은 PostDetailCache 에 보관하고, 요청마다 달라지는 좋아요 증감분/좋아요 여부만 조회 시 채운다.
     public PostResponseDto getPost(Long postId){
-        Post post = postRepository.findById(postId).
+        PostResponseDto postResponseDto = withPendingLikes(
+                postDetailCache.get(postId).orElseGet(() -> loadPost(postId)));
+        markLikedByMe(List.of(postResponseDto));
+        return postResponseDto;
+    }
+
+    private PostResponseDto loadPost(Long postId) {
+        // 읽는 동안 수정/삭제/좋아요 반영으로 무효화되면 읽은 스냅샷을 캐시에 넣지 않는다.
+        long cacheVersion = postDetailCache.version(postId);
+        Post post = postRepository.findWithMemberById(postId).
                 orElseThrow(() -> new BusinessException(ResponseCode.POS_NOT_FOUND));
 
-        List<CommentResponseDto> commentResponseDtoList = new ArrayList<>();
-        int likeCount = likesRepository.countLikesByPostId(post.getId());
-        int commentCount = commentRepository.countCommentByPostId(post.getId());
-        for(Comment comment : post.getComments()){
-            List<CommentResponseDto> childCommentList = new ArrayList<>();
-            if (comment.getParent() == null) {
-                for(Comment childComment : comment.getChildren()){
-                    if(postId.equals(childComment.getPost().getId())){
-                        childCommentList.add(new CommentResponseDto(childComment));
-                    }
-                }
-                commentResponseDtoList.add(new CommentResponseDto(comment,childCommentList));
-            }
-        }
-        return new PostResponseDto(post, commentResponseDtoList,commentCount,likeCount);
+        // 댓글은 첫 페이지만 포함하고, 이후 페이지는 댓글 목록 API 에서 커서로 조회한다.
+        SliceResponse<CommentResponseDto> commentSlice = commentService.readCommentPage(
+                postId, null, CommentService.DEFAULT_PAGE_SIZE, CommentService.DEFAULT_REPLY_SIZE);
+        PostResponseDto postResponseDto = new PostResponseDto(post, commentSlice);
+        postDetailCache.put(postId, postResponseDto, cacheVersion);
+        return postResponseDto;
     }
 
     @Transactional
@@ -84,7 +118,8 @@ public class PostService {
                 throw new BusinessException(ResponseCode.POS_UPDATE_EXPIRED);
             }else{
                 post.update(postRequestDto.getTitle(), postRequestDto.getContent());
-                return new PostResponseDto(post);
+                postDetailCache.evictAfterCommit(postId);
+                return toResponseDto(post);
             }
         }else{
             throw new BusinessException(ResponseCode.POS_AUTHENTICATION_FAIL);
@@ -99,10 +134,33 @@ public class PostService {
 
         if(post.getMember().getEmail().equals(memberEmail)){
             postRepository.deleteById(postId);
+            postDetailCache.evictAfterCommit(postId);
         }else{
             throw new BusinessException(ResponseCode.POS_AUTHENTICATION_FAIL);
         }
         return Response.ok();
     }
 
+    private PostResponseDto toResponseDto(Post post) {
+        return withPendingLikes(new PostResponseDto(post));
+    }
+
+    // 아직 DB 에 반영되지 않은 좋아요 증감분을 더해 응답한다.
+    private PostResponseDto withPendingLikes(PostResponseDto postResponseDto) {
+        postResponseDto.setLikeCount(postResponseDto.getLikeCount()
+                + (int) likeCountAggregator.pendingDelta(postResponseDto.getId()));
+        return postResponseDto;
+    }
+
+    // 페이지 전체의 좋아요 여부를 한 번에 채운다. 비로그인 요청이면 모두 false 로 둔다.
+    private void markLikedByMe(List<PostResponseDto> posts) {
+        if (posts.isEmpty()) {
+            return;
+        }
+        SecurityUtil.findLoginMemberId().ifPresent(memberId -> {
+            Set<Long> likedPostIds = likeStatusCache.findLikedPostIds(memberId,
+                    posts.stream().map(PostResponseDto::getId).toList());
+            posts.forEach(post -> post.setLikedByMe(likedPostIds.contains(post.getId())));
+        });
+    }
 }
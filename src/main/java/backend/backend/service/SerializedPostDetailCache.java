@@ -0,0 +1,113 @@
+package backend.backend.service;
+
+import backend.backend.domain.dto.postDto.PostResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 공유 캐시(Redis 등)를 붙이기 전에 같은 방식으로 동작을 확인하기 위한 로컬 대체 구현.
+ * 스냅샷을 JSON 바이트로 직렬화해 보관하므로, 조회할 때마다 역직렬화 비용과 직렬화되지 않는 필드 문제를 그대로 드러낸다.
+ * 상한은 실제 바이트 수로 계산하며, 직렬화에 실패하면 캐시 장애로 보고 캐시 없이 처리한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "post.detail-cache.type", havingValue = "serialized")
+public class SerializedPostDetailCache implements PostDetailCache, MeterBinder {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, byte[]> cache;
+    private final EvictionVersions versions = new EvictionVersions();
+
+    public SerializedPostDetailCache(ObjectMapper objectMapper,
+                                     @Value("${post.detail-cache.ttl-seconds}") long ttlSeconds,
+                                     @Value("${post.detail-cache.maximum-weight-bytes}") long maximumWeightBytes) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumWeight(maximumWeightBytes)
+                .weigher((Long postId, byte[] value) -> value.length)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Optional<PostResponseDto> get(Long postId) {
+        byte[] value = cache.getIfPresent(postId);
+        if (value == null) {
+            return Optional.empty();
+        }
+        PostResponseDto cached = read(postId, value);
+        if (cached == null) {
+            cache.invalidate(postId);
+        }
+        return Optional.ofNullable(cached);
+    }
+
+    @Override
+    public long version(Long postId) {
+        return versions.current(postId);
+    }
+
+    @Override
+    public void put(Long postId, PostResponseDto postResponseDto, long version) {
+        if (!versions.isCurrent(postId, version)) {
+            return;
+        }
+        byte[] value = write(postId, postResponseDto);
+        if (value == null) {
+            return;
+        }
+        cache.put(postId, value);
+        // 확인과 저장 사이에 무효화가 끼어들었으면 방금 저장한 스냅샷을 지운다.
+        if (!versions.isCurrent(postId, version)) {
+            cache.invalidate(postId);
+        }
+    }
+
+    @Override
+    public void evict(Long postId) {
+        versions.bump(postId);
+        cache.invalidate(postId);
+    }
+
+    @Override
+    public void clear() {
+        versions.bumpAll();
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "post-detail");
+    }
+
+    private PostResponseDto read(Long postId, byte[] value) {
+        try {
+            return objectMapper.readValue(value, PostResponseDto.class);
+        } catch (IOException e) {
+            log.warn("게시글 상세 캐시를 읽지 못했습니다. postId: {}", postId, e);
+            return null;
+        }
+    }
+
+    private byte[] write(Long postId, PostResponseDto postResponseDto) {
+        try {
+            return objectMapper.writeValueAsBytes(postResponseDto);
+        } catch (IOException e) {
+            log.warn("게시글 상세 캐시에 저장하지 못했습니다. postId: {}", postId, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * IDENTITY 컬럼을 시퀀스(increment 50, Hibernate pooled 옵티마이저)로 바꾼다.
+ * 기존 데이터와 id 가 겹치지 않도록 시퀀스 시작값을 테이블의 최대 id 기준으로 계산해야 하므로 SQL 대신 Java 로 작성한다.
+ */
+public class V2__Switch_ids_to_sequences extends BaseJavaMigration {
+
+    private static final int INCREMENT = 50;
+
+    // {테이블, id 컬럼, 시퀀스}
+    private static final String[][] TABLES = {
+            {"member", "member_id", "member_seq"},
+            {"post", "post_id", "post_seq"},
+            {"comment", "comment_id", "comment_seq"},
+            {"likes", "like_id", "likes_seq"},
+            {"meeting", "meeting_id", "meeting_seq"},
+            {"meeting_member", "id", "meeting_member_seq"},
+    };
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        try (Statement statement = context.getConnection().createStatement()) {
+            for (String[] table : TABLES) {
+                long maxId = maxId(statement, table[0], table[1]);
+                // pooled 옵티마이저는 받은 값을 구간의 끝으로 사용하므로 (maxId + 1) ~ (maxId + 50) 부터 할당된다.
+                statement.execute("create sequence " + table[2]
+                        + " start with " + (maxId + INCREMENT) + " increment by " + INCREMENT);
+                statement.execute("alter table " + table[0] + " alter column " + table[1] + " drop identity");
+            }
+        }
+    }
+
+    private long maxId(Statement statement, String table, String idColumn) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery("select coalesce(max(" + idColumn + "), 0) from " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+-- 초기 스키마 (prod 프로필, H2 파일 모드). 엔티티 매핑과 같은 타입으로 생성해 ddl-auto=validate 를 통과한다.
+
+create table member (
+    member_id      bigint generated by default as identity,
+    email          varchar(255) not null,
+    password       varchar(255) not null,
+    name           varchar(255),
+    nick_name      varchar(255),
+    emoji          varchar(255),
+    created_at     timestamp(6),
+    updated_at     timestamp(6),
+    active_status  enum ('ACTIVE','DELETED'),
+    primary key (member_id),
+    constraint uk_member_email unique (email)
+);
+
+create table post (
+    post_id        bigint generated by default as identity,
+    member_id      bigint not null,
+    title          varchar(255) not null,
+    content        varchar(255) not null,
+    like_count     integer not null,
+    comment_count  integer not null,
+    created_at     timestamp(6),
+    updated_at     timestamp(6),
+    active_status  enum ('ACTIVE','DELETED'),
+    primary key (post_id),
+    constraint fk_post_member foreign key (member_id) references member (member_id)
+);
+
+create table comment (
+    comment_id         bigint generated by default as identity,
+    user_id            bigint not null,
+    post_id            bigint not null,
+    parent_comment_id  bigint,
+    nickname           varchar(255) not null,
+    depth              integer not null,
+    content            varchar(100) not null,
+    created_at         timestamp(6),
+    updated_at         timestamp(6),
+    active_status      enum ('ACTIVE','DELETED'),
+    primary key (comment_id),
+    constraint fk_comment_member foreign key (user_id) references member (member_id),
+    constraint fk_comment_post foreign key (post_id) references post (post_id),
+    constraint fk_comment_parent foreign key (parent_comment_id) references comment (comment_id)
+);
+
+create table likes (
+    like_id    bigint generated by default as identity,
+    member_id  bigint not null,
+    post_id    bigint not null,
+    primary key (like_id),
+    constraint uk_likes_member_post unique (member_id, post_id),
+    constraint fk_likes_member foreign key (member_id) references member (member_id),
+    constraint fk_likes_post foreign key (post_id) references post (post_id)
+);
+
+create table meeting (
+    meeting_id               bigint generated by default as identity,
+    title                    varchar(255),
+    category                 tinyint check (category between 0 and 7),
+    week                     tinyint check (week between 0 and 6),
+    time                     time(6),
+    limit_number_of_people   integer not null,
+    participant_count        integer not null,
+    description              varchar(255),
+    owner                    bigint,
+    created_at               timestamp(6),
+    updated_at               timestamp(6),
+    active_status            enum ('ACTIVE','DELETED'),
+    primary key (meeting_id),
+    constraint fk_meeting_owner foreign key (owner) references member (member_id)
+);
+
+create table meeting_member (
+    id             bigint generated by default as identity,
+    meeting_id     bigint,
+    member_id      bigint,
+    created_at     timestamp(6),
+    updated_at     timestamp(6),
+    active_status  enum ('ACTIVE','DELETED'),
+    primary key (id),
+    constraint uk_meeting_member_meeting_member unique (meeting_id, member_id),
+    constraint fk_meeting_member_meeting foreign key (meeting_id) references meeting (meeting_id),
+    constraint fk_meeting_member_member foreign key (member_id) references member (member_id)
+);
+
+create table refresh_token (
+    token_hash  varchar(64) not null,
+    member_id   bigint not null,
+    expires_at  timestamp(6) not null,
+    created_at  timestamp(6) not null,
+    primary key (token_hash),
+    constraint fk_refresh_token_member foreign key (member_id) references member (member_id)
+);
+
+-- 게시글별 좋아요 조회/정합성 재계산 (member_id 쪽은 uk_likes_member_post 가 처리)
+create index idx_likes_post on likes (post_id);
+-- 게시글의 루트 댓글/대댓글 페이지 조회
+create index idx_comment_post_parent_status on comment (post_id, parent_comment_id, active_status);
+-- 삭제되지 않은 게시글 목록/피드 (post_id 역순)
+create index idx_post_status_id on post (active_status, post_id);
+-- 카테고리별 모임 목록
+create index idx_meeting_category_id on meeting (category, meeting_id);
+-- 모임별 참여자 조회는 uk_meeting_member_meeting_member (meeting_id, member_id) 가 처리한다.
+create index idx_refresh_token_member on refresh_token (member_id);
+create index idx_refresh_token_expires_at on refresh_token (expires_at);
@@ -3,7 +3,9 @@ package backend.backend.controller;
 import backend.backend.domain.Comment;
 import backend.backend.domain.Member;
 import backend.backend.domain.dto.Response;
+import backend.backend.domain.dto.SliceResponse;
 import backend.backend.domain.dto.commentDto.CommentResponseDto;
+import backend.backend.global.util.security.MemberPrincipal;
 import backend.backend.global.util.security.SecurityUtil;
 import backend.backend.service.CommentService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -18,6 +20,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -53,8 +56,9 @@ class CommentControllerTest {
     @DisplayName("댓글 작성 성공")
     void createComment_success() throws Exception {
         try (MockedStatic<SecurityUtil> util = mockStatic(SecurityUtil.class)) {
-            util.when(SecurityUtil::getLoginEmail).thenReturn("test@test.com");
-            when(commentService.createComment(eq(1L), eq(0L), any(), eq("test@test.com")))
+            MemberPrincipal writer = new MemberPrincipal(1L, "test@test.com", "", "테스터", "😀");
+            util.when(SecurityUtil::getLoginMember).thenReturn(writer);
+            when(commentService.createComment(eq(1L), eq(0L), any(), eq(writer)))
                     .thenReturn(createCommentResponse("댓글 내용"));
 
             String body = objectMapper.writeValueAsString(
@@ -70,6 +74,19 @@ class CommentControllerTest {
         }
     }
 
+    @Test
+    @DisplayName("댓글 목록 조회 성공")
+    void getComments_success() throws Exception {
+        when(commentService.getComments(1L, null, 20, 3))
+                .thenReturn(SliceResponse.of(List.of(createCommentResponse("댓글 내용")), true, "next"));
+
+        mockMvc.perform(get("/api/post/1/comments"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].content").value("댓글 내용"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").value("next"));
+    }
+
     @Test
     @DisplayName("댓글 조회 성공")
     void getComment_success() throws Exception {
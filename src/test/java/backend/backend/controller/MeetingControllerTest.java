@@ -62,7 +62,7 @@ class MeetingControllerTest {
     @DisplayName("모임 생성 성공")
     void postMeeting_success() throws Exception {
         try (MockedStatic<SecurityUtil> util = mockStatic(SecurityUtil.class)) {
-            util.when(SecurityUtil::getLoginEmail).thenReturn("test@test.com");
+            util.when(SecurityUtil::getLoginMemberId).thenReturn(1L);
             doNothing().when(meetingService).post(any());
 
             String body = objectMapper.writeValueAsString(
@@ -86,7 +86,7 @@ class MeetingControllerTest {
     @DisplayName("모임 참여 성공")
     void joinMeeting_success() throws Exception {
         try (MockedStatic<SecurityUtil> util = mockStatic(SecurityUtil.class)) {
-            util.when(SecurityUtil::getLoginEmail).thenReturn("test@test.com");
+            util.when(SecurityUtil::getLoginMemberId).thenReturn(1L);
             doNothing().when(meetingService).joinMeeting(1L);
 
             mockMvc.perform(post("/api/meeting/1"))
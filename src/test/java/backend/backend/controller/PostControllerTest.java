@@ -1,7 +1,9 @@
 package backend.backend.controller;
 
 import backend.backend.domain.dto.Response;
+import backend.backend.domain.dto.SliceResponse;
 import backend.backend.domain.dto.postDto.PostResponseDto;
+import backend.backend.global.util.security.MemberPrincipal;
 import backend.backend.global.util.security.SecurityUtil;
 import backend.backend.service.LikesService;
 import backend.backend.service.PostService;
@@ -24,6 +26,8 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -65,12 +69,50 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.data.content[0].title").value("제목"));
     }
 
+    @Test
+    @DisplayName("게시글 피드 조회 성공 - 커서 모드")
+    void getPostFeed_success() throws Exception {
+        when(postService.getPostFeed(30L, 20))
+                .thenReturn(SliceResponse.of(List.of(createPostResponse()), true, "1"));
+
+        mockMvc.perform(get("/api/post").param("cursor", "30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].title").value("제목"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").value("1"));
+    }
+
+    @Test
+    @DisplayName("게시글 피드 조회 성공 - 빈 커서는 첫 페이지")
+    void getPostFeed_firstPage() throws Exception {
+        when(postService.getPostFeed(null, 10))
+                .thenReturn(SliceResponse.of(List.of(createPostResponse()), false, null));
+
+        mockMvc.perform(get("/api/post").param("cursor", "").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.hasNext").value(false))
+                .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("게시글 피드 조회 성공 - count=false 와 cursor 를 함께 보내면 커서 모드")
+    void getPostFeed_withCountFalse() throws Exception {
+        when(postService.getPostFeed(30L, 20))
+                .thenReturn(SliceResponse.of(List.of(createPostResponse()), false, null));
+
+        mockMvc.perform(get("/api/post").param("count", "false").param("cursor", "30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].title").value("제목"));
+        verify(postService, never()).getPostSlice(any());
+    }
+
     @Test
     @DisplayName("게시글 작성 성공")
     void createPost_success() throws Exception {
         try (MockedStatic<SecurityUtil> util = mockStatic(SecurityUtil.class)) {
-            util.when(SecurityUtil::getLoginEmail).thenReturn("test@test.com");
-            when(postService.createPost(any(), eq("test@test.com"))).thenReturn(createPostResponse());
+            MemberPrincipal writer = new MemberPrincipal(1L, "test@test.com", "", "테스터", "😀");
+            util.when(SecurityUtil::getLoginMember).thenReturn(writer);
+            when(postService.createPost(any(), eq(writer))).thenReturn(createPostResponse());
 
             String body = objectMapper.writeValueAsString(
                     new java.util.LinkedHashMap<>() {{
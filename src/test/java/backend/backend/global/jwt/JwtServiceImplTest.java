@@ -0,0 +1,162 @@
+package backend.backend.global.jwt;
+
+import backend.backend.domain.Member;
+import backend.backend.domain.RefreshToken;
+import backend.backend.repository.MemberRepository;
+import backend.backend.repository.RefreshTokenRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtServiceImplTest {
+
+    @InjectMocks
+    private JwtServiceImpl jwtService;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private RefreshTokenWriter refreshTokenWriter;
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jwtService, "secret", "back-likelion-jwt-secret-key-must-be-at-least-512-bits-long-for-hmac512");
+        ReflectionTestUtils.setField(jwtService, "accessTokenValidityInSeconds", "3600");
+        ReflectionTestUtils.setField(jwtService, "refreshTokenValidityInSeconds", "1209600");
+        ReflectionTestUtils.setField(jwtService, "accessHeader", "Authorization");
+        ReflectionTestUtils.setField(jwtService, "refreshHeader", "Authorization-refresh");
+        jwtService.init();
+    }
+
+    private Member createMember() {
+        return Member.builder()
+                .id(1L)
+                .email("test@test.com")
+                .password("password")
+                .nickName("테스터")
+                .emoji("😀")
+                .build();
+    }
+
+    private RefreshToken createStoredToken(Member member) {
+        RefreshToken refreshToken = mock(RefreshToken.class);
+        when(refreshToken.getMember()).thenReturn(member);
+        return refreshToken;
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 - 원문이 아닌 64자 해시로 배치 저장기에 전달, 같은 시각 발급 토큰도 서로 다름")
+    void updateRefreshToken_storesHash() {
+        String first = jwtService.createRefreshToken();
+        String second = jwtService.createRefreshToken();
+        when(refreshTokenWriter.write(anyString(), eq(1L), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        CompletableFuture<Void> result = jwtService.updateRefreshToken(1L, first);
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(result).isCompleted();
+        verify(refreshTokenWriter).write(
+                argThat(hash -> hash.length() == 64 && !hash.equals(first)), eq(1L), any(LocalDateTime.class), any(LocalDateTime.class));
+        verifyNoInteractions(memberRepository, refreshTokenRepository);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 재발급 - 기존 토큰 삭제 후 새 토큰 저장, 두 토큰 모두 응답")
+    void reIssueTokens_rotates() {
+        String refreshToken = jwtService.createRefreshToken();
+        RefreshToken storedToken = createStoredToken(createMember());
+        when(refreshTokenRepository.findValidWithMember(anyString(), any(LocalDateTime.class))).thenReturn(Optional.of(storedToken));
+        when(refreshTokenRepository.deleteByTokenHash(anyString())).thenReturn(1);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        jwtService.reIssueTokens(response, refreshToken);
+
+        assertThat(response.getHeader("Authorization")).isNotBlank();
+        assertThat(response.getHeader("Authorization-refresh")).isNotBlank().isNotEqualTo(refreshToken);
+        verify(refreshTokenRepository).insert(anyString(), eq(1L), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 재발급 - 이미 사용된 토큰이면 발급하지 않음")
+    void reIssueTokens_alreadyUsed() {
+        String refreshToken = jwtService.createRefreshToken();
+        RefreshToken storedToken = mock(RefreshToken.class);
+        when(refreshTokenRepository.findValidWithMember(anyString(), any(LocalDateTime.class))).thenReturn(Optional.of(storedToken));
+        when(refreshTokenRepository.deleteByTokenHash(anyString())).thenReturn(0);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        jwtService.reIssueTokens(response, refreshToken);
+
+        assertThat(response.getHeader("Authorization")).isNull();
+        verify(refreshTokenRepository, never()).insert(anyString(), anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 폐기 - 회원의 모든 토큰 삭제, 회원 정보 캐시 무효화")
+    void destroyRefreshToken_deletesAllAndInvalidates() {
+        when(memberRepository.findByEmail("test@test.com")).thenReturn(Optional.of(createMember()));
+
+        jwtService.destroyRefreshToken("test@test.com");
+
+        verify(refreshTokenRepository).deleteAllByMemberId(1L);
+        verify(principalCache).invalidate("test@test.com");
+    }
+
+    @Test
+    @DisplayName("토큰 검증 - 한 번의 검증으로 username 추출, 위조 토큰은 빈 값")
+    void extractUsername() {
+        String accessToken = jwtService.createAccessToken("test@test.com");
+
+        assertThat(jwtService.extractUsername(accessToken)).contains("test@test.com");
+        assertThat(jwtService.extractUsername(accessToken + "x")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 경계 - 요청마다 호출되는 토큰 검증/추출은 트랜잭션 없이, 토큰 저장소 변경만 트랜잭션으로 실행")
+    void transactionBoundary() throws NoSuchMethodException {
+        AnnotationTransactionAttributeSource source = new AnnotationTransactionAttributeSource();
+
+        for (String methodName : List.of("createAccessToken", "extractUsername", "verify", "isTokenValid")) {
+            Method method = JwtServiceImpl.class.getMethod(methodName, String.class);
+            assertThat(source.getTransactionAttribute(method, JwtServiceImpl.class)).as(methodName).isNull();
+        }
+        Method extractAccessToken = JwtServiceImpl.class.getMethod("extractAccessToken", HttpServletRequest.class);
+        assertThat(source.getTransactionAttribute(extractAccessToken, JwtServiceImpl.class)).isNull();
+
+        Method reIssueTokens = JwtServiceImpl.class.getMethod("reIssueTokens", HttpServletResponse.class, String.class);
+        Method destroyRefreshToken = JwtServiceImpl.class.getMethod("destroyRefreshToken", String.class);
+        assertThat(source.getTransactionAttribute(reIssueTokens, JwtServiceImpl.class)).isNotNull();
+        assertThat(source.getTransactionAttribute(destroyRefreshToken, JwtServiceImpl.class)).isNotNull();
+    }
+}
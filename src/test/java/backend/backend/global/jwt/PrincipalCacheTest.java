@@ -0,0 +1,78 @@
+package backend.backend.global.jwt;
+
+import backend.backend.domain.Member;
+import backend.backend.global.util.security.MemberPrincipal;
+import backend.backend.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private PrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(memberRepository, 300, 100);
+    }
+
+    private Member createMember() {
+        return Member.builder()
+                .id(1L)
+                .email("test@test.com")
+                .password("password")
+                .nickName("테스터")
+                .emoji("😀")
+                .build();
+    }
+
+    @Test
+    @DisplayName("회원 정보 캐시 - 두 번째 조회부터 DB 조회 없음")
+    void get_cachesPrincipal() {
+        when(memberRepository.findByEmail("test@test.com")).thenReturn(Optional.of(createMember()));
+
+        MemberPrincipal first = principalCache.get("test@test.com").orElseThrow();
+        MemberPrincipal second = principalCache.get("test@test.com").orElseThrow();
+
+        assertThat(first.getId()).isEqualTo(1L);
+        assertThat(first.getUsername()).isEqualTo("test@test.com");
+        assertThat(first.getPassword()).isEmpty();
+        assertThat(second).isSameAs(first);
+        verify(memberRepository, times(1)).findByEmail("test@test.com");
+    }
+
+    @Test
+    @DisplayName("회원 정보 캐시 - 무효화 후 다시 조회")
+    void invalidate_reloads() {
+        when(memberRepository.findByEmail("test@test.com")).thenReturn(Optional.of(createMember()));
+
+        principalCache.get("test@test.com");
+        principalCache.invalidate("test@test.com");
+        principalCache.get("test@test.com");
+
+        verify(memberRepository, times(2)).findByEmail("test@test.com");
+    }
+
+    @Test
+    @DisplayName("회원 정보 캐시 - 없는 회원은 캐싱하지 않음")
+    void get_missingMember_notCached() {
+        when(memberRepository.findByEmail("none@test.com")).thenReturn(Optional.empty());
+
+        assertThat(principalCache.get("none@test.com")).isEmpty();
+        assertThat(principalCache.get("none@test.com")).isEmpty();
+
+        verify(memberRepository, times(2)).findByEmail("none@test.com");
+    }
+}
@@ -0,0 +1,121 @@
+package backend.backend.global.jwt;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RefreshTokenWriter refreshTokenWriter;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        // flush-interval 을 넉넉히 두어 동시에 들어온 토큰이 한 배치로 묶이게 한다.
+        refreshTokenWriter = new RefreshTokenWriter(jdbcTemplate, new TransactionTemplate(transactionManager),
+                100, 500, 200, 2000);
+        refreshTokenWriter.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        refreshTokenWriter.stop();
+    }
+
+    private CompletableFuture<Void> write(int i) {
+        LocalDateTime now = LocalDateTime.now();
+        return refreshTokenWriter.write("hash-" + i, (long) i, now.plusDays(14), now);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 배치 저장 - 함께 들어온 토큰을 한 번의 배치로 저장하고 커밋 후 완료")
+    void write_batchesConcurrentTokens() {
+        List<Integer> batchSizes = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    batchSizes.add(invocation.<Collection<?>>getArgument(1).size());
+                    return new int[0][];
+                });
+
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            results.add(write(i));
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+
+        assertThat(batchSizes).containsExactly(10);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 배치 저장 - 저장 실패 시 배치의 모든 future 가 실패")
+    void write_failure_completesExceptionally() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("db down"));
+
+        CompletableFuture<Void> result = write(1);
+
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(DataAccessResourceFailureException.class);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 배치 저장 - 배치를 모으는 도중 종료해도 모은 토큰과 종료 후 토큰을 모두 저장")
+    void stop_duringBatch_flushesCollectedTokens() throws InterruptedException {
+        List<Integer> batchSizes = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    synchronized (batchSizes) {
+                        batchSizes.add(invocation.<Collection<?>>getArgument(1).size());
+                    }
+                    return new int[0][];
+                });
+        // flush-interval 을 길게 두어 저장기 스레드가 배치를 모으는 중에 종료되게 한다.
+        RefreshTokenWriter slowWriter = new RefreshTokenWriter(jdbcTemplate, new TransactionTemplate(transactionManager),
+                100, 500, 1000, 3000);
+        slowWriter.start();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(slowWriter.write("hash-" + i, (long) i, now.plusDays(14), now));
+        }
+        Thread.sleep(100);
+        slowWriter.stop();
+        CompletableFuture<Void> afterStop = slowWriter.write("hash-after", 99L, now.plusDays(14), now);
+
+        assertThat(results).allSatisfy(result -> assertThat(result).isCompleted());
+        assertThat(afterStop).isCompleted();
+        assertThat(batchSizes).containsExactly(3, 1);
+    }
+}
@@ -0,0 +1,97 @@
+package backend.backend.global.login.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JsonUsernamePasswordAuthenticationFilterTest {
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    private JsonUsernamePasswordAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new JsonUsernamePasswordAuthenticationFilter(new ObjectMapper());
+        filter.setAuthenticationManager(authenticationManager);
+    }
+
+    private MockHttpServletRequest loginRequest(String contentType, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/login");
+        request.setContentType(contentType);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    @Test
+    @DisplayName("로그인 요청 파싱 - charset 이 붙은 Content-Type 허용, username/password 외 필드는 무시")
+    void attemptAuthentication_success() throws Exception {
+        MockHttpServletRequest request = loginRequest("application/json;charset=UTF-8",
+                "{\"extra\":{\"nested\":[1,2]},\"username\":\"test@test.com\",\"password\":\"비밀번호\"}");
+        ArgumentCaptor<Authentication> captor = ArgumentCaptor.forClass(Authentication.class);
+        when(authenticationManager.authenticate(captor.capture())).thenReturn(mock(Authentication.class));
+
+        filter.attemptAuthentication(request, new MockHttpServletResponse());
+
+        UsernamePasswordAuthenticationToken token = (UsernamePasswordAuthenticationToken) captor.getValue();
+        assertThat(token.getPrincipal()).isEqualTo("test@test.com");
+        assertThat(token.getCredentials()).isEqualTo("비밀번호");
+    }
+
+    @Test
+    @DisplayName("로그인 요청 파싱 실패 - 지원하지 않는 Content-Type")
+    void attemptAuthentication_unsupportedContentType() {
+        MockHttpServletRequest request = loginRequest("text/plain", "{}");
+
+        assertThatThrownBy(() -> filter.attemptAuthentication(request, new MockHttpServletResponse()))
+                .isInstanceOf(AuthenticationServiceException.class);
+        verifyNoInteractions(authenticationManager);
+    }
+
+    @Test
+    @DisplayName("로그인 요청 파싱 실패 - 최대 크기를 넘는 본문")
+    void attemptAuthentication_bodyTooLarge() {
+        MockHttpServletRequest request = loginRequest("application/json",
+                "{\"username\":\"" + "a".repeat(10_000) + "\",\"password\":\"password\"}");
+
+        assertThatThrownBy(() -> filter.attemptAuthentication(request, new MockHttpServletResponse()))
+                .isInstanceOf(AuthenticationServiceException.class);
+        verifyNoInteractions(authenticationManager);
+    }
+
+    @Test
+    @DisplayName("로그인 요청 파싱 실패 - Content-Length 없이 들어온 큰 본문도 제한")
+    void attemptAuthentication_bodyTooLargeWithoutContentLength() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/login") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        request.setContentType("application/json");
+        request.setContent(("{\"username\":\"" + "a".repeat(10_000) + "\"}").getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> filter.attemptAuthentication(request, new MockHttpServletResponse()))
+                .isInstanceOf(AuthenticationServiceException.class);
+        verifyNoInteractions(authenticationManager);
+    }
+}
@@ -0,0 +1,21 @@
+package backend.backend.global.metrics;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 본문에서 실행된 SQL 문장 수가 max 이하인지 검증한다. (SqlStatementCounter 로 집계)
+ * {@code @BeforeAll}/{@code @BeforeEach} 의 데이터 준비는 세지 않으며, 테스트 스레드에서 실행된 SQL 만 센다.
+ * 같은 예산으로 페이지 크기를 바꿔 실행하면 행마다 추가 조회(N+1)가 생겼을 때 실패한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(ExpectQueriesExtension.class)
+public @interface ExpectQueries {
+
+    int max();
+}
@@ -0,0 +1,28 @@
+package backend.backend.global.metrics;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpectQueriesExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        SqlStatementCounter.start();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        long count = SqlStatementCounter.stop();
+        // 테스트 자체가 실패했으면 그 원인을 그대로 보고한다.
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+        int max = context.getRequiredTestMethod().getAnnotation(ExpectQueries.class).max();
+        assertThat(count)
+                .as("%s 에서 실행된 SQL 문장 수", context.getDisplayName())
+                .isLessThanOrEqualTo(max);
+    }
+}
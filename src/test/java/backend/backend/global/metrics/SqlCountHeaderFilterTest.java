@@ -0,0 +1,40 @@
+package backend.backend.global.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlCountHeaderFilterTest {
+
+    private final SqlCountHeaderFilter filter = new SqlCountHeaderFilter();
+    private final SqlStatementCounter inspector = new SqlStatementCounter();
+
+    @Test
+    @DisplayName("요청 처리 중 실행된 SQL 수를 헤더로 내려주고 본문은 그대로 전달")
+    void doFilter_countStatements() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/post"), response, (req, res) -> {
+            inspector.inspect("select p1_0.post_id from post p1_0");
+            inspector.inspect("select count(p1_0.post_id) from post p1_0");
+            res.getWriter().write("{\"status\":200}");
+        });
+
+        assertThat(response.getHeader(SqlCountHeaderFilter.HEADER)).isEqualTo("2");
+        assertThat(response.getContentAsString()).isEqualTo("{\"status\":200}");
+    }
+
+    @Test
+    @DisplayName("요청이 끝나면 집계를 종료해 다음 요청에 누적되지 않음")
+    void doFilter_resetAfterRequest() throws Exception {
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                (req, res) -> inspector.inspect("select 1"));
+
+        inspector.inspect("select 1");
+
+        assertThat(SqlStatementCounter.stop()).isZero();
+    }
+}
@@ -0,0 +1,85 @@
+package backend.backend.global.util.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private PasswordEncoder delegating(int strength) {
+        return new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(strength)));
+    }
+
+    @Test
+    @DisplayName("비밀번호 해시 - 전용 풀에서 암호화/검증하고 작업별 시간을 기록")
+    void encodeAndMatches_recordsTimers() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegating(4), 2, 10, meterRegistry);
+
+        String encoded = encoder.encode("password");
+
+        assertThat(encoded).startsWith("{bcrypt}");
+        assertThat(encoder.matches("password", encoded)).isTrue();
+        assertThat(encoder.matches("wrong", encoded)).isFalse();
+        assertThat(meterRegistry.get("password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hash").tag("operation", "matches").timer().count()).isEqualTo(2);
+        encoder.destroy();
+    }
+
+    @Test
+    @DisplayName("비밀번호 해시 - 저장된 strength 가 설정보다 낮으면 재암호화 대상")
+    void upgradeEncoding_lowerStrength() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegating(6), 1, 10, new SimpleMeterRegistry());
+        String weakHash = delegating(4).encode("password");
+
+        assertThat(encoder.upgradeEncoding(weakHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("password"))).isFalse();
+        encoder.destroy();
+    }
+
+    @Test
+    @DisplayName("비밀번호 해시 - 풀과 대기열이 가득 차면 바로 실패")
+    void matches_rejectedWhenSaturated() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, 1, 0, new SimpleMeterRegistry());
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("a", "a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> encoder.matches("b", "b")).isInstanceOf(AuthenticationServiceException.class);
+
+        release.countDown();
+        assertThat(running.join()).isTrue();
+        encoder.destroy();
+    }
+}
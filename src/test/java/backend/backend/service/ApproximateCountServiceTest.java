@@ -0,0 +1,74 @@
+package backend.backend.service;
+
+import backend.backend.domain.enums.MeetingCategory;
+import backend.backend.repository.MeetingCategoryCount;
+import backend.backend.repository.MeetingRepository;
+import backend.backend.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApproximateCountServiceTest {
+
+    @InjectMocks
+    private ApproximateCountService approximateCountService;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    private MeetingCategoryCount categoryCount(MeetingCategory category, long count) {
+        return new MeetingCategoryCount() {
+            @Override
+            public MeetingCategory getCategory() {
+                return category;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("근사 전체 개수 - 첫 조회 시 한 번 계산한 뒤 캐시된 값 반환")
+    void totals_cachedUntilRefresh() {
+        when(postRepository.count()).thenReturn(10L);
+        when(meetingRepository.countGroupByCategory()).thenReturn(List.of(
+                categoryCount(MeetingCategory.Study, 3),
+                categoryCount(MeetingCategory.Health, 2)));
+
+        assertThat(approximateCountService.getPostTotal()).isEqualTo(10L);
+        assertThat(approximateCountService.getMeetingTotal(null)).isEqualTo(5L);
+        assertThat(approximateCountService.getMeetingTotal(MeetingCategory.Study)).isEqualTo(3L);
+        assertThat(approximateCountService.getMeetingTotal(MeetingCategory.Economy)).isZero();
+
+        verify(postRepository, times(1)).count();
+        verify(meetingRepository, times(1)).countGroupByCategory();
+    }
+
+    @Test
+    @DisplayName("근사 전체 개수 - 갱신 후 새 값 반환")
+    void refresh_updatesTotals() {
+        when(postRepository.count()).thenReturn(10L, 11L);
+        when(meetingRepository.countGroupByCategory()).thenReturn(List.of());
+
+        assertThat(approximateCountService.getPostTotal()).isEqualTo(10L);
+
+        approximateCountService.refresh();
+
+        assertThat(approximateCountService.getPostTotal()).isEqualTo(11L);
+    }
+}
@@ -0,0 +1,93 @@
+package backend.backend.service;
+
+import backend.backend.domain.dto.commentDto.CommentResponseDto;
+import backend.backend.domain.dto.postDto.PostResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaffeinePostDetailCacheTest {
+
+    private final CaffeinePostDetailCache postDetailCache = new CaffeinePostDetailCache(60, 1024 * 1024);
+
+    private PostResponseDto createPostResponse(int likeCount) {
+        PostResponseDto dto = new PostResponseDto();
+        dto.setId(1L);
+        dto.setTitle("제목");
+        dto.setContent("내용");
+        dto.setLikeCount(likeCount);
+        return dto;
+    }
+
+    @Test
+    @DisplayName("조회 결과를 수정해도 캐시된 스냅샷은 바뀌지 않음")
+    void get_returnsCopy() {
+        PostResponseDto dto = createPostResponse(5);
+        postDetailCache.put(1L, dto, postDetailCache.version(1L));
+        dto.setLikeCount(100);
+
+        PostResponseDto first = postDetailCache.get(1L).orElseThrow();
+        first.setLikedByMe(true);
+        first.setLikeCount(7);
+
+        PostResponseDto second = postDetailCache.get(1L).orElseThrow();
+        assertThat(second.getLikeCount()).isEqualTo(5);
+        assertThat(second.isLikedByMe()).isFalse();
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 조회되지 않음")
+    void evict() {
+        postDetailCache.put(1L, createPostResponse(5), postDetailCache.version(1L));
+
+        postDetailCache.evictAfterCommit(1L);
+
+        assertThat(postDetailCache.get(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조회 중 무효화되면 무효화 이전에 읽은 스냅샷을 저장하지 않음")
+    void put_afterEvict_isIgnored() {
+        long version = postDetailCache.version(1L);
+        postDetailCache.evict(1L);
+
+        postDetailCache.put(1L, createPostResponse(5), version);
+        assertThat(postDetailCache.get(1L)).isEmpty();
+
+        postDetailCache.put(1L, createPostResponse(6), postDetailCache.version(1L));
+        assertThat(postDetailCache.get(1L).orElseThrow().getLikeCount()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("전체 비우기 이전에 읽은 스냅샷은 저장하지 않음")
+    void put_afterClear_isIgnored() {
+        long version = postDetailCache.version(1L);
+        postDetailCache.clear();
+
+        postDetailCache.put(1L, createPostResponse(5), version);
+
+        assertThat(postDetailCache.get(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("댓글이 많을수록 무게를 크게 계산")
+    void estimateBytes_growsWithComments() {
+        PostResponseDto small = createPostResponse(0);
+        PostResponseDto large = createPostResponse(0);
+        List<CommentResponseDto> comments = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            CommentResponseDto comment = new CommentResponseDto();
+            comment.setContent("댓글 내용".repeat(10));
+            comment.setNickname("작성자");
+            comments.add(comment);
+        }
+        large.setCommentList(comments);
+
+        assertThat(CaffeinePostDetailCache.estimateBytes(large))
+                .isGreaterThan(CaffeinePostDetailCache.estimateBytes(small) + 20 * 100);
+    }
+}
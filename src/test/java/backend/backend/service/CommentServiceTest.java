@@ -5,8 +5,11 @@ import backend.backend.domain.Member;
 import backend.backend.domain.Post;
 import backend.backend.domain.common.BusinessException;
 import backend.backend.domain.common.ResponseCode;
+import backend.backend.domain.dto.SliceResponse;
+import backend.backend.domain.dto.commentDto.CommentCursor;
 import backend.backend.domain.dto.commentDto.CommentRequestDto;
 import backend.backend.domain.dto.commentDto.CommentResponseDto;
+import backend.backend.global.util.security.MemberPrincipal;
 import backend.backend.repository.CommentRepository;
 import backend.backend.repository.MemberRepository;
 import backend.backend.repository.PostRepository;
@@ -16,8 +19,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -25,6 +30,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +48,9 @@ class CommentServiceTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private PostDetailCache postDetailCache;
+
     private Member createMember() {
         return Member.builder()
                 .email("test@test.com")
@@ -61,6 +70,10 @@ class CommentServiceTest {
                 .build();
     }
 
+    private MemberPrincipal createWriter() {
+        return new MemberPrincipal(5L, "test@test.com", "", "테스터", "😀");
+    }
+
     private CommentRequestDto createCommentRequestDto(String content) {
         CommentRequestDto dto = new CommentRequestDto();
         ReflectionTestUtils.setField(dto, "content", content);
@@ -84,14 +97,18 @@ class CommentServiceTest {
                 .build();
 
         when(postRepository.findById(1L)).thenReturn(Optional.of(post));
-        when(memberRepository.findByEmail("test@test.com")).thenReturn(Optional.of(member));
+        when(memberRepository.getReferenceById(5L)).thenReturn(member);
         when(commentRepository.save(any(Comment.class))).thenReturn(savedComment);
 
-        CommentResponseDto result = commentService.createComment(1L, 0L, dto, "test@test.com");
+        CommentResponseDto result = commentService.createComment(1L, 0L, dto, createWriter());
 
         assertThat(result.getContent()).isEqualTo("댓글 내용");
         assertThat(result.getDepth()).isEqualTo(0);
+        assertThat(result.getEmoji()).isEqualTo("😀");
         verify(commentRepository).save(any(Comment.class));
+        verify(postRepository).addCommentCount(1L, 1);
+        verify(postDetailCache).evictAfterCommit(1L);
+        verify(memberRepository, never()).findByEmail(any());
     }
 
     @Test
@@ -121,12 +138,12 @@ class CommentServiceTest {
                 .build();
 
         when(postRepository.findById(1L)).thenReturn(Optional.of(post));
-        when(memberRepository.findByEmail("test@test.com")).thenReturn(Optional.of(member));
+        when(memberRepository.getReferenceById(5L)).thenReturn(member);
         when(commentRepository.findById(10L)).thenReturn(Optional.of(parentComment));
         when(commentRepository.findByPostAndId(post, 10L)).thenReturn(Optional.of(parentComment));
         when(commentRepository.save(any(Comment.class))).thenReturn(childComment);
 
-        CommentResponseDto result = commentService.createComment(1L, 10L, dto, "test@test.com");
+        CommentResponseDto result = commentService.createComment(1L, 10L, dto, createWriter());
 
         assertThat(result.getContent()).isEqualTo("대댓글 내용");
         assertThat(result.getDepth()).isEqualTo(1);
@@ -140,7 +157,7 @@ class CommentServiceTest {
 
         when(postRepository.findById(99L)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> commentService.createComment(99L, 0L, dto, "test@test.com"))
+        assertThatThrownBy(() -> commentService.createComment(99L, 0L, dto, createWriter()))
                 .isInstanceOf(BusinessException.class)
                 .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
                         .isEqualTo(ResponseCode.CMT_POST_NOT_FOUND));
@@ -181,6 +198,137 @@ class CommentServiceTest {
         assertThat(result.getChildren().get(0).getContent()).isEqualTo("자식 댓글");
     }
 
+    private Comment createTimedComment(Long id, Post post, Member member, Comment parent, LocalDateTime createdAt) {
+        Comment comment = Comment.builder()
+                .id(id)
+                .content("댓글 " + id)
+                .nickname("테스터")
+                .post(post)
+                .member(member)
+                .parent(parent)
+                .depth(parent == null ? 0 : 1)
+                .children(new ArrayList<>())
+                .build();
+        ReflectionTestUtils.setField(comment, "createdAt", createdAt);
+        return comment;
+    }
+
+    @Test
+    @DisplayName("댓글 목록 조회 성공 - 다음 페이지 커서 및 대댓글 커서")
+    void getComments_firstPage() {
+        Member member = createMember();
+        Post post = createPost(member);
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 10, 0);
+        Comment first = createTimedComment(1L, post, member, null, now);
+        Comment second = createTimedComment(2L, post, member, null, now.plusMinutes(1));
+        Comment third = createTimedComment(3L, post, member, null, now.plusMinutes(2));
+        Comment reply1 = createTimedComment(4L, post, member, first, now.plusMinutes(3));
+        Comment reply2 = createTimedComment(5L, post, member, first, now.plusMinutes(4));
+
+        when(postRepository.existsById(1L)).thenReturn(true);
+        when(commentRepository.findRootComments(eq(1L), any(Pageable.class))).thenReturn(List.of(first, second, third));
+        when(commentRepository.findFirstReplyIds(List.of(1L, 2L), 2)).thenReturn(List.of(4L, 5L));
+        when(commentRepository.findAllWithMemberByIdIn(List.of(4L, 5L))).thenReturn(List.of(reply1, reply2));
+
+        SliceResponse<CommentResponseDto> result = commentService.getComments(1L, null, 2, 1);
+
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(CommentCursor.decode(result.getNextCursor())).isEqualTo(CommentCursor.from(second));
+        assertThat(result.getContent()).extracting(CommentResponseDto::getId).containsExactly(1L, 2L);
+        assertThat(result.getContent().get(0).getChildren()).extracting(CommentResponseDto::getId).containsExactly(4L);
+        assertThat(CommentCursor.decode(result.getContent().get(0).getReplyCursor())).isEqualTo(CommentCursor.from(reply1));
+        assertThat(result.getContent().get(1).getReplyCursor()).isNull();
+        assertThat(result.getContent()).extracting(CommentResponseDto::isHasReplies).containsExactly(true, false);
+    }
+
+    @Test
+    @DisplayName("댓글 목록 조회 성공 - replySize=0 이면 대댓글 없이 대댓글 존재 여부만 포함")
+    void getComments_withoutReplies_marksHasReplies() {
+        Member member = createMember();
+        Post post = createPost(member);
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 10, 0);
+        Comment first = createTimedComment(1L, post, member, null, now);
+        Comment second = createTimedComment(2L, post, member, null, now.plusMinutes(1));
+
+        when(postRepository.existsById(1L)).thenReturn(true);
+        when(commentRepository.findRootComments(eq(1L), any(Pageable.class))).thenReturn(List.of(first, second));
+        when(commentRepository.findParentIdsHavingReplies(List.of(1L, 2L))).thenReturn(List.of(1L));
+
+        SliceResponse<CommentResponseDto> result = commentService.getComments(1L, null, 20, 0);
+
+        assertThat(result.getContent()).extracting(CommentResponseDto::isHasReplies).containsExactly(true, false);
+        assertThat(result.getContent()).allSatisfy(comment -> {
+            assertThat(comment.getChildren()).isEmpty();
+            assertThat(comment.getReplyCursor()).isNull();
+        });
+        verify(commentRepository, never()).findFirstReplyIds(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("댓글 목록 조회 성공 - 커서 이후 마지막 페이지")
+    void getComments_afterCursor() {
+        Member member = createMember();
+        Post post = createPost(member);
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 10, 0);
+        Comment second = createTimedComment(2L, post, member, null, now.plusMinutes(1));
+        Comment third = createTimedComment(3L, post, member, null, now.plusMinutes(2));
+        String cursor = new CommentCursor(now, 1L).encode();
+
+        when(postRepository.existsById(1L)).thenReturn(true);
+        when(commentRepository.findRootCommentsAfter(eq(1L), eq(now), eq(1L), any(Pageable.class)))
+                .thenReturn(List.of(second, third));
+        when(commentRepository.findFirstReplyIds(List.of(2L, 3L), 4)).thenReturn(List.of());
+
+        SliceResponse<CommentResponseDto> result = commentService.getComments(1L, cursor, 20, 3);
+
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(result.getContent()).extracting(CommentResponseDto::getId).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("댓글 목록 조회 실패 - 잘못된 커서")
+    void getComments_invalidCursor() {
+        when(postRepository.existsById(1L)).thenReturn(true);
+
+        assertThatThrownBy(() -> commentService.getComments(1L, "not-a-cursor", 20, 3))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                        .isEqualTo(ResponseCode.CMT_INVALID_CURSOR));
+    }
+
+    @Test
+    @DisplayName("댓글 목록 조회 실패 - 게시글 없음")
+    void getComments_postNotFound() {
+        when(postRepository.existsById(99L)).thenReturn(false);
+
+        assertThatThrownBy(() -> commentService.getComments(99L, null, 20, 3))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                        .isEqualTo(ResponseCode.CMT_POST_NOT_FOUND));
+    }
+
+    @Test
+    @DisplayName("대댓글 목록 조회 성공")
+    void getReplies_success() {
+        Member member = createMember();
+        Post post = createPost(member);
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 10, 0);
+        Comment parent = createTimedComment(1L, post, member, null, now);
+        Comment reply1 = createTimedComment(2L, post, member, parent, now.plusMinutes(1));
+        Comment reply2 = createTimedComment(3L, post, member, parent, now.plusMinutes(2));
+
+        when(commentRepository.existsById(1L)).thenReturn(true);
+        when(commentRepository.findReplies(eq(1L), any(Pageable.class))).thenReturn(List.of(reply1, reply2));
+
+        SliceResponse<CommentResponseDto> result = commentService.getReplies(1L, null, 1);
+
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getContent()).extracting(CommentResponseDto::getId).containsExactly(2L);
+        assertThat(result.getContent().get(0).getParentId()).isEqualTo(1L);
+        assertThat(CommentCursor.decode(result.getNextCursor())).isEqualTo(CommentCursor.from(reply1));
+    }
+
     @Test
     @DisplayName("댓글 수정 성공")
     void updateComment_success() {
@@ -248,6 +396,41 @@ class CommentServiceTest {
         commentService.deleteComment(1L, "test@test.com");
 
         verify(commentRepository).deleteById(1L);
+        verify(postRepository).addCommentCount(1L, -1);
+    }
+
+    @Test
+    @DisplayName("댓글 삭제 성공 - 대댓글 수만큼 댓글 수 감소")
+    void deleteComment_withChildren() {
+        Member member = createMember();
+        Post post = createPost(member);
+        Comment comment = Comment.builder()
+                .id(1L)
+                .content("댓글")
+                .nickname("테스터")
+                .post(post)
+                .member(member)
+                .depth(0)
+                .children(new ArrayList<>())
+                .build();
+        Comment childComment = Comment.builder()
+                .id(2L)
+                .content("대댓글")
+                .nickname("테스터")
+                .post(post)
+                .member(member)
+                .parent(comment)
+                .depth(1)
+                .children(new ArrayList<>())
+                .build();
+        comment.getChildren().add(childComment);
+
+        when(commentRepository.findById(1L)).thenReturn(Optional.of(comment));
+
+        commentService.deleteComment(1L, "test@test.com");
+
+        verify(commentRepository).deleteById(1L);
+        verify(postRepository).addCommentCount(1L, -2);
     }
 
     @Test
@@ -0,0 +1,72 @@
+package backend.backend.service;
+
+import backend.backend.domain.Comment;
+import backend.backend.domain.Member;
+import backend.backend.domain.dto.commentDto.CommentResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentTreeAssemblerTest {
+
+    private final Member member = Member.builder()
+            .email("test@test.com")
+            .password("password")
+            .nickName("테스터")
+            .emoji("😀")
+            .build();
+
+    private Comment createComment(Long id, Comment parent) {
+        return Comment.builder()
+                .id(id)
+                .content("댓글 " + id)
+                .nickname("테스터")
+                .member(member)
+                .parent(parent)
+                .depth(parent == null ? 0 : 1)
+                .children(new ArrayList<>())
+                .build();
+    }
+
+    @Test
+    @DisplayName("댓글 트리 조립 - 부모 순서 유지 및 자식 연결")
+    void assemble_tree() {
+        Comment first = createComment(1L, null);
+        Comment second = createComment(2L, null);
+        Comment firstChild = createComment(3L, first);
+        Comment secondChild = createComment(4L, second);
+        Comment nestedChild = createComment(5L, firstChild);
+
+        List<CommentResponseDto> result = CommentTreeAssembler.assemble(
+                List.of(first, second, firstChild, secondChild, nestedChild));
+
+        assertThat(result).extracting(CommentResponseDto::getId).containsExactly(1L, 2L);
+        assertThat(result.get(0).getChildren()).extracting(CommentResponseDto::getId).containsExactly(3L);
+        assertThat(result.get(0).getChildren().get(0).getChildren())
+                .extracting(CommentResponseDto::getId).containsExactly(5L);
+        assertThat(result.get(1).getChildren()).extracting(CommentResponseDto::getId).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("댓글 트리 조립 - 부모가 목록에 없는 댓글은 제외")
+    void assemble_skipOrphan() {
+        Comment deletedParent = createComment(1L, null);
+        Comment orphan = createComment(2L, deletedParent);
+        Comment root = createComment(3L, null);
+
+        List<CommentResponseDto> result = CommentTreeAssembler.assemble(List.of(orphan, root));
+
+        assertThat(result).extracting(CommentResponseDto::getId).containsExactly(3L);
+        assertThat(result.get(0).getChildren()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("댓글 트리 조립 - 빈 목록")
+    void assemble_empty() {
+        assertThat(CommentTreeAssembler.assemble(List.of())).isEmpty();
+    }
+}
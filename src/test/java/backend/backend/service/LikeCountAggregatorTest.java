@@ -0,0 +1,158 @@
+package backend.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LikeCountAggregatorTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private PostDetailCache postDetailCache;
+
+    private LikeCountAggregator likeCountAggregator;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        likeCountAggregator = new LikeCountAggregator(jdbcTemplate, new TransactionTemplate(transactionManager), postDetailCache);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> captureBatch() {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("좋아요 집계 - 동시 증감을 게시글별로 합산해 한 번의 배치로 반영")
+    void flush_aggregatesConcurrentLikes() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            executor.submit(() -> likeCountAggregator.apply(1L, 1, () -> 1));
+        }
+        executor.submit(() -> likeCountAggregator.apply(2L, -1, () -> 1));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(likeCountAggregator.pendingDelta(1L)).isEqualTo(1000);
+
+        likeCountAggregator.flush();
+
+        List<Object[]> batch = captureBatch();
+        assertThat(batch).extracting(args -> args[1], args -> args[0])
+                .containsExactlyInAnyOrder(tuple(1L, 1000L), tuple(2L, -1L));
+        assertThat(likeCountAggregator.pendingDelta(1L)).isZero();
+        // 스냅샷을 고치지 않고 커밋 후 무효화한다.
+        InOrder inOrder = inOrder(transactionManager, postDetailCache);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(postDetailCache).evict(1L);
+        verify(postDetailCache).evict(2L);
+        verifyNoMoreInteractions(postDetailCache);
+    }
+
+    @Test
+    @DisplayName("좋아요 집계 - 증감이 없으면 DB 에 반영하지 않음")
+    void flush_empty() {
+        likeCountAggregator.flush();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("좋아요 집계 - 반영 실패 시 증감분을 다음 주기로 넘김")
+    void flush_failure_keepsPendingDelta() {
+        likeCountAggregator.apply(1L, 1, () -> 3);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new DataAccessResourceFailureException("db down"));
+
+        likeCountAggregator.flush();
+
+        assertThat(likeCountAggregator.pendingDelta(1L)).isEqualTo(3);
+        verifyNoInteractions(postDetailCache);
+    }
+
+    @Test
+    @DisplayName("좋아요 집계 - 호출한 쪽 트랜잭션에 참여하지 않고 별도 트랜잭션으로 반영")
+    void flush_requiresNewTransaction() {
+        likeCountAggregator.apply(1L, 1, () -> 1);
+
+        likeCountAggregator.flush();
+
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Test
+    @DisplayName("좋아요 집계 - 행이 변경된 경우에만 증감을 기록")
+    void apply_recordsChangedRows() {
+        assertThat(likeCountAggregator.apply(1L, 1, () -> 1)).isEqualTo(1);
+        assertThat(likeCountAggregator.apply(1L, -1, () -> 0)).isZero();
+
+        assertThat(likeCountAggregator.pendingDelta(1L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재계산 - 남은 증감분을 먼저 반영하고, 재계산이 끝날 때까지 좋아요 기록을 막음")
+    void reconcile_flushesAndBlocksLikes() throws Exception {
+        likeCountAggregator.apply(1L, 1, () -> 3);
+        CompletableFuture<Integer> concurrentLike = new CompletableFuture<>();
+
+        int updatedCount = likeCountAggregator.reconcile(() -> {
+            // 재계산 시점에는 반영 전 증감분이 없어야 재계산 결과 위에 다시 더해지지 않는다.
+            assertThat(likeCountAggregator.pendingDelta(1L)).isZero();
+            CompletableFuture.runAsync(() -> concurrentLike.complete(likeCountAggregator.apply(1L, 1, () -> 1)));
+            assertThatThrownBy(() -> concurrentLike.get(200, TimeUnit.MILLISECONDS))
+                    .isInstanceOf(TimeoutException.class);
+            return 10;
+        });
+
+        assertThat(updatedCount).isEqualTo(10);
+        assertThat(captureBatch()).extracting(args -> args[1], args -> args[0]).containsExactly(tuple(1L, 3L));
+        assertThat(concurrentLike.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(likeCountAggregator.pendingDelta(1L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재계산 - 남은 증감분 반영에 실패하면 재계산하지 않고 증감분을 유지")
+    void reconcile_flushFailure_skipsRecount() {
+        likeCountAggregator.apply(1L, 1, () -> 3);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new DataAccessResourceFailureException("db down"));
+
+        assertThatThrownBy(() -> likeCountAggregator.reconcile(() -> {
+            throw new AssertionError("재계산이 실행되면 안 됩니다.");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(likeCountAggregator.pendingDelta(1L)).isEqualTo(3);
+    }
+}
@@ -0,0 +1,80 @@
+package backend.backend.service;
+
+import backend.backend.repository.LikesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LikeStatusCacheTest {
+
+    @Mock
+    private LikesRepository likesRepository;
+
+    private LikeStatusCache likeStatusCache;
+
+    @BeforeEach
+    void setUp() {
+        likeStatusCache = new LikeStatusCache(likesRepository, 600, 100, 100);
+    }
+
+    @Test
+    @DisplayName("필터에 없는 게시글만 있으면 IN 조회를 하지 않음")
+    void findLikedPostIds_skipDatabase() {
+        when(likesRepository.findPostIdsByMemberId(1L, PageRequest.ofSize(101))).thenReturn(List.of(10L));
+        List<Long> others = LongStream.rangeClosed(1000, 1019).boxed().toList();
+
+        assertThat(likeStatusCache.findLikedPostIds(1L, others)).isEmpty();
+        assertThat(likeStatusCache.findLikedPostIds(1L, others)).isEmpty();
+
+        // 필터는 한 번만 적재하고, 오탐이 없으면 IN 조회도 없다.
+        verify(likesRepository, times(1)).findPostIdsByMemberId(anyLong(), any());
+        verify(likesRepository, never()).findLikedPostIds(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("필터에 있을 수 있는 게시글은 IN 조회로 확인")
+    void findLikedPostIds_confirmCandidates() {
+        when(likesRepository.findPostIdsByMemberId(1L, PageRequest.ofSize(101))).thenReturn(List.of(10L));
+        when(likesRepository.findLikedPostIds(eq(1L), argThat(ids -> ids.contains(10L)))).thenReturn(List.of(10L));
+
+        assertThat(likeStatusCache.findLikedPostIds(1L, List.of(10L))).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("좋아요 저장 후 적재된 필터에 반영")
+    void recordLike() {
+        when(likesRepository.findPostIdsByMemberId(1L, PageRequest.ofSize(101))).thenReturn(List.of());
+        assertThat(likeStatusCache.findLikedPostIds(1L, List.of(20L))).isEmpty();
+        verify(likesRepository, never()).findLikedPostIds(anyLong(), any());
+
+        likeStatusCache.recordLike(1L, 20L);
+        when(likesRepository.findLikedPostIds(1L, List.of(20L))).thenReturn(List.of(20L));
+
+        assertThat(likeStatusCache.findLikedPostIds(1L, List.of(20L))).containsExactly(20L);
+        verify(likesRepository, times(1)).findPostIdsByMemberId(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("좋아요가 상한을 넘는 회원은 필터 없이 항상 IN 조회")
+    void findLikedPostIds_tooManyLikes() {
+        List<Long> liked = LongStream.rangeClosed(1, 101).boxed().toList();
+        when(likesRepository.findPostIdsByMemberId(1L, PageRequest.ofSize(101))).thenReturn(liked);
+        when(likesRepository.findLikedPostIds(1L, List.of(5000L))).thenReturn(List.of());
+
+        assertThat(likeStatusCache.findLikedPostIds(1L, List.of(5000L))).isEmpty();
+        verify(likesRepository).findLikedPostIds(1L, List.of(5000L));
+    }
+}
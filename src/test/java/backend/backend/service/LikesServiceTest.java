@@ -1,25 +1,27 @@
 package backend.backend.service;
 
-import backend.backend.domain.Likes;
-import backend.backend.domain.Member;
-import backend.backend.domain.Post;
 import backend.backend.domain.common.BusinessException;
 import backend.backend.domain.common.ResponseCode;
 import backend.backend.repository.LikesRepository;
-import backend.backend.repository.MemberRepository;
 import backend.backend.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 
-import java.util.Optional;
+import java.sql.SQLException;
+import java.util.function.IntSupplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,94 +34,104 @@ class LikesServiceTest {
     private LikesRepository likesRepository;
 
     @Mock
-    private MemberRepository memberRepository;
+    private PostRepository postRepository;
 
     @Mock
-    private PostRepository postRepository;
+    private LikeCountAggregator likeCountAggregator;
 
-    private Member createMember() {
-        return Member.builder()
-                .email("test@test.com")
-                .password("password")
-                .nickName("테스터")
-                .build();
-    }
+    @Mock
+    private LikeStatusCache likeStatusCache;
 
-    private Post createPost(Member member) {
-        return new Post("제목", "내용", member);
+    @BeforeEach
+    void setUp() {
+        // 집계기는 전달받은 좋아요 행 변경을 그대로 실행한다. (증감 기록은 LikeCountAggregatorTest 에서 검증)
+        lenient().when(likeCountAggregator.apply(any(), anyInt(), any()))
+                .thenAnswer(invocation -> invocation.<IntSupplier>getArgument(2).getAsInt());
     }
 
     @Test
-    @DisplayName("좋아요 성공")
+    @DisplayName("좋아요 성공 - 한 번의 INSERT, 회원/게시글 조회 없음")
     void likePost_success() {
-        Member member = createMember();
-        Post post = createPost(member);
-
-        when(memberRepository.findByEmail("test@test.com")).thenReturn(Optional.of(member));
-        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
-        when(likesRepository.findByMemberAndPost(member, post)).thenReturn(Optional.empty());
+        when(likesRepository.insertIfAbsent(2L, 1L)).thenReturn(1);
 
-        likesService.likePost(1L, "test@test.com");
+        boolean changed = likesService.likePost(1L, 2L);
 
-        verify(likesRepository).save(any(Likes.class));
+        assertThat(changed).isTrue();
+        verify(likeCountAggregator).apply(eq(1L), eq(1), any());
+        verify(likeStatusCache).recordLike(2L, 1L);
+        verify(postRepository, never()).existsById(any());
     }
 
     @Test
-    @DisplayName("좋아요 실패 - 이미 좋아요")
+    @DisplayName("좋아요 - 이미 좋아요한 경우 상태 변화 없이 성공")
     void likePost_alreadyLiked() {
-        Member member = createMember();
-        Post post = createPost(member);
+        when(likesRepository.insertIfAbsent(2L, 1L)).thenReturn(0);
+        when(postRepository.existsById(1L)).thenReturn(true);
 
-        when(memberRepository.findByEmail("test@test.com")).thenReturn(Optional.of(member));
-        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
-        when(likesRepository.findByMemberAndPost(member, post)).thenReturn(Optional.of(new Likes(member, post)));
+        boolean changed = likesService.likePost(1L, 2L);
 
-        assertThatThrownBy(() -> likesService.likePost(1L, "test@test.com"))
-                .isInstanceOf(BusinessException.class)
-                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
-                        .isEqualTo(ResponseCode.LIK_ALREADY_LIKED));
+        assertThat(changed).isFalse();
+        verify(likeStatusCache, never()).recordLike(anyLong(), anyLong());
     }
 
     @Test
-    @DisplayName("좋아요 실패 - 회원 없음")
-    void likePost_memberNotFound() {
-        when(memberRepository.findByEmail("none@test.com")).thenReturn(Optional.empty());
+    @DisplayName("좋아요 - 동시 요청으로 유니크 제약 위반 시 상태 변화 없이 성공")
+    void likePost_concurrentDuplicate() {
+        when(likesRepository.insertIfAbsent(2L, 1L)).thenThrow(constraintViolation("PUBLIC.UK_LIKES_MEMBER_POST_INDEX_4"));
+
+        boolean changed = likesService.likePost(1L, 2L);
 
-        assertThatThrownBy(() -> likesService.likePost(1L, "none@test.com"))
+        assertThat(changed).isFalse();
+        verify(likeStatusCache, never()).recordLike(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("좋아요 실패 - 외래 키 위반(탈퇴한 회원 등)은 중복으로 처리하지 않고 그대로 던짐")
+    void likePost_foreignKeyViolation_rethrows() {
+        DataIntegrityViolationException violation = constraintViolation("PUBLIC.FK_LIKES_MEMBER");
+        when(likesRepository.insertIfAbsent(2L, 1L)).thenThrow(violation);
+
+        assertThatThrownBy(() -> likesService.likePost(1L, 2L)).isSameAs(violation);
+        verify(likeStatusCache, never()).recordLike(anyLong(), anyLong());
+    }
+
+    private DataIntegrityViolationException constraintViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", new SQLException(), constraintName));
+    }
+
+    @Test
+    @DisplayName("좋아요 실패 - 게시글 없음")
+    void likePost_postNotFound() {
+        when(likesRepository.insertIfAbsent(2L, 99L)).thenReturn(0);
+        when(postRepository.existsById(99L)).thenReturn(false);
+
+        assertThatThrownBy(() -> likesService.likePost(99L, 2L))
                 .isInstanceOf(BusinessException.class)
                 .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
-                        .isEqualTo(ResponseCode.LIK_MEMBER_NOT_FOUND));
+                        .isEqualTo(ResponseCode.LIK_POST_NOT_FOUND));
     }
 
     @Test
-    @DisplayName("좋아요 취소 성공")
+    @DisplayName("좋아요 취소 성공 - (member_id, post_id) 한 번의 DELETE")
     void unlikePost_success() {
-        Member member = createMember();
-        Post post = createPost(member);
-        Likes likes = new Likes(member, post);
-
-        when(memberRepository.findByEmail("test@test.com")).thenReturn(Optional.of(member));
-        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
-        when(likesRepository.findByMemberAndPost(member, post)).thenReturn(Optional.of(likes));
+        when(likesRepository.deleteByMemberIdAndPostId(2L, 1L)).thenReturn(1);
 
-        likesService.unlikePost(1L, "test@test.com");
+        boolean changed = likesService.unlikePost(1L, 2L);
 
-        verify(likesRepository).delete(likes);
+        assertThat(changed).isTrue();
+        verify(likeCountAggregator).apply(eq(1L), eq(-1), any());
     }
 
     @Test
-    @DisplayName("좋아요 취소 실패 - 좋아요 없음")
-    void unlikePost_notFound() {
-        Member member = createMember();
-        Post post = createPost(member);
+    @DisplayName("좋아요 취소 - 좋아요하지 않은 경우 상태 변화 없이 성공")
+    void unlikePost_notLiked() {
+        when(likesRepository.deleteByMemberIdAndPostId(2L, 1L)).thenReturn(0);
+        when(postRepository.existsById(1L)).thenReturn(true);
 
-        when(memberRepository.findByEmail("test@test.com")).thenReturn(Optional.of(member));
-        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
-        when(likesRepository.findByMemberAndPost(member, post)).thenReturn(Optional.empty());
+        boolean changed = likesService.unlikePost(1L, 2L);
 
-        assertThatThrownBy(() -> likesService.unlikePost(1L, "test@test.com"))
-                .isInstanceOf(BusinessException.class)
-                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
-                        .isEqualTo(ResponseCode.LIK_NOT_FOUND));
+        assertThat(changed).isFalse();
+        verify(likeCountAggregator).apply(eq(1L), eq(-1), any());
     }
 }
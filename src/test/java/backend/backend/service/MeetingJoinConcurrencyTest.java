@@ -0,0 +1,130 @@
+package backend.backend.service;
+
+import backend.backend.domain.Meeting;
+import backend.backend.domain.Member;
+import backend.backend.domain.common.BusinessException;
+import backend.backend.domain.common.ResponseCode;
+import backend.backend.global.util.security.MemberPrincipal;
+import backend.backend.repository.MeetingMemberRepository;
+import backend.backend.repository.MeetingRepository;
+import backend.backend.support.IntegrationTest;
+import backend.backend.support.TestFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 모임에 수백 건의 참여 요청을 동시에 보내 정원 초과와 중복 참여가 발생하지 않는지 검증한다.
+ */
+@IntegrationTest
+class MeetingJoinConcurrencyTest {
+
+    private static final int THREAD_POOL_SIZE = 32;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingMemberRepository meetingMemberRepository;
+
+    @Autowired
+    private TestFixture testFixture;
+
+    @AfterEach
+    void tearDown() {
+        testFixture.deleteAll();
+    }
+
+    // 각 회원으로 로그인한 상태에서 동시에 joinMeeting 을 호출하고, 결과를 응답 코드별로 집계한다. (성공은 SUCCESS)
+    private Map<ResponseCode, AtomicInteger> joinConcurrently(Long meetingId, List<Member> members) throws InterruptedException {
+        Map<ResponseCode, AtomicInteger> results = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_POOL_SIZE);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(members.size());
+
+        for (Member member : members) {
+            executor.submit(() -> {
+                try {
+                    SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                            MemberPrincipal.from(member), null, AuthorityUtils.NO_AUTHORITIES));
+                    ready.await();
+                    meetingService.joinMeeting(meetingId);
+                    results.computeIfAbsent(ResponseCode.SUCCESS, k -> new AtomicInteger()).incrementAndGet();
+                } catch (BusinessException e) {
+                    results.computeIfAbsent(e.getErrorCode(), k -> new AtomicInteger()).incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    SecurityContextHolder.clearContext();
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        return results;
+    }
+
+    private int count(Map<ResponseCode, AtomicInteger> results, ResponseCode code) {
+        AtomicInteger value = results.get(code);
+        return value == null ? 0 : value.get();
+    }
+
+    @Test
+    @DisplayName("동시 참여 - 300명이 정원 50명 모임에 동시에 참여해도 정확히 50명만 참여")
+    void joinMeeting_concurrent_neverExceedsCapacity() throws InterruptedException {
+        int limit = 50;
+        int applicants = 300;
+        Meeting meeting = testFixture.saveMeeting(testFixture.saveMember("owner@test.com"), "인기 모임", limit);
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < applicants; i++) {
+            members.add(testFixture.saveMember("member" + i + "@test.com"));
+        }
+
+        Map<ResponseCode, AtomicInteger> results = joinConcurrently(meeting.getId(), members);
+
+        assertThat(count(results, ResponseCode.SUCCESS)).isEqualTo(limit);
+        assertThat(count(results, ResponseCode.MTG_CAPACITY_FULL)).isEqualTo(applicants - limit);
+        assertThat(meetingRepository.findById(meeting.getId()).orElseThrow().getParticipantCount()).isEqualTo(limit);
+        assertThat(meetingMemberRepository.countByMeetingId(meeting.getId())).isEqualTo(limit);
+    }
+
+    @Test
+    @DisplayName("동시 참여 - 같은 회원이 동시에 여러 번 참여해도 한 번만 참여")
+    void joinMeeting_concurrent_sameMemberJoinsOnce() throws InterruptedException {
+        Meeting meeting = testFixture.saveMeeting(testFixture.saveMember("owner@test.com"), "인기 모임", 10);
+        Member member = testFixture.saveMember("member@test.com");
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            members.add(member);
+        }
+
+        Map<ResponseCode, AtomicInteger> results = joinConcurrently(meeting.getId(), members);
+
+        assertThat(count(results, ResponseCode.SUCCESS)).isEqualTo(1);
+        assertThat(count(results, ResponseCode.MTG_ALREADY_JOINED)).isEqualTo(99);
+        assertThat(meetingRepository.findById(meeting.getId()).orElseThrow().getParticipantCount()).isEqualTo(1);
+        assertThat(meetingMemberRepository.countByMeetingId(meeting.getId())).isEqualTo(1);
+    }
+}
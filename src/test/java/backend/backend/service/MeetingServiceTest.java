@@ -4,11 +4,14 @@ import backend.backend.domain.Meeting;
 import backend.backend.domain.Member;
 import backend.backend.domain.common.BusinessException;
 import backend.backend.domain.common.ResponseCode;
+import backend.backend.domain.dto.SliceResponse;
 import backend.backend.domain.dto.meetingDto.MeetingRequestDTO;
 import backend.backend.domain.dto.meetingDto.MeetingResponseDTO;
 import backend.backend.domain.enums.MeetingCategory;
 import backend.backend.domain.enums.Week;
+import backend.backend.domain.mapping.MeetingMember;
 import backend.backend.global.util.security.SecurityUtil;
+import backend.backend.repository.MeetingMemberRepository;
 import backend.backend.repository.MeetingRepository;
 import backend.backend.repository.MemberRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -18,10 +21,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalTime;
 import java.util.List;
@@ -45,6 +53,12 @@ class MeetingServiceTest {
     @Mock
     private MeetingRepository meetingRepository;
 
+    @Mock
+    private MeetingMemberRepository meetingMemberRepository;
+
+    @Mock
+    private ApproximateCountService approximateCountService;
+
     private Member createMember() {
         return Member.builder()
                 .id(1L)
@@ -75,12 +89,17 @@ class MeetingServiceTest {
         Meeting meeting = createMeeting(owner);
         Page<Meeting> meetingPage = new PageImpl<>(List.of(meeting));
 
+        ReflectionTestUtils.setField(meeting, "participantCount", 7);
+
         when(meetingRepository.findAll(any(Pageable.class))).thenReturn(meetingPage);
 
         Page<MeetingResponseDTO.getListDTO> result = meetingService.getList(PageRequest.of(1, 10), null);
 
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).title()).isEqualTo("스터디 모임");
+        assertThat(result.getContent().get(0).numberOfParticipants()).isEqualTo(7);
+        // 요청한 페이지 크기를 그대로 쓴다. (page 는 1부터)
+        verify(meetingRepository).findAll(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id")));
     }
 
     @Test
@@ -100,6 +119,26 @@ class MeetingServiceTest {
         assertThat(result.getContent().get(0).category()).isEqualTo(MeetingCategory.Study);
     }
 
+    @Test
+    @DisplayName("모임 목록 조회 성공 - count=false, COUNT 쿼리 없이 근사 전체 개수 반환")
+    void getSlice_categoryFilter() {
+        Member owner = createMember();
+        Meeting meeting = createMeeting(owner);
+        Slice<Meeting> meetingSlice = new SliceImpl<>(List.of(meeting), PageRequest.of(0, 3), false);
+
+        when(meetingRepository.findSliceByCategory(eq(MeetingCategory.Study), any(Pageable.class)))
+                .thenReturn(meetingSlice);
+        when(approximateCountService.getMeetingTotal(MeetingCategory.Study)).thenReturn(1L);
+
+        SliceResponse<MeetingResponseDTO.getListDTO> result = meetingService.getSlice(
+                PageRequest.of(1, 10), MeetingCategory.Study);
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getApproximateTotal()).isEqualTo(1L);
+        verify(meetingRepository, never()).findAllByCategory(any(), any());
+    }
+
     @Test
     @DisplayName("모임 생성 성공")
     void post_success() {
@@ -109,36 +148,42 @@ class MeetingServiceTest {
                 LocalTime.of(10, 0), 10, "설명");
 
         try (MockedStatic<SecurityUtil> util = mockStatic(SecurityUtil.class)) {
-            util.when(SecurityUtil::getLoginEmail).thenReturn("test@test.com");
-            when(memberRepository.findByEmail("test@test.com")).thenReturn(Optional.of(owner));
+            util.when(SecurityUtil::getLoginMemberId).thenReturn(1L);
+            when(memberRepository.getReferenceById(1L)).thenReturn(owner);
 
             meetingService.post(dto);
 
             verify(meetingRepository).save(any(Meeting.class));
+            verify(memberRepository, never()).findByEmail(any());
         }
     }
 
-    @Test
-    @DisplayName("모임 참여 성공")
-    void joinMeeting_success() {
-        Member owner = createMember();
-        Meeting meeting = createMeeting(owner);
-        Member joiner = Member.builder()
+    private Member createJoiner() {
+        return Member.builder()
                 .id(2L)
                 .email("joiner@test.com")
                 .password("password")
                 .nickName("참여자")
                 .emoji("🎉")
                 .build();
+    }
+
+    @Test
+    @DisplayName("모임 참여 성공")
+    void joinMeeting_success() {
+        Meeting meeting = createMeeting(createMember());
+        Member joiner = createJoiner();
 
         try (MockedStatic<SecurityUtil> util = mockStatic(SecurityUtil.class)) {
-            util.when(SecurityUtil::getLoginEmail).thenReturn("joiner@test.com");
-            when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
-            when(memberRepository.findByEmail("joiner@test.com")).thenReturn(Optional.of(joiner));
+            util.when(SecurityUtil::getLoginMemberId).thenReturn(2L);
+            when(memberRepository.getReferenceById(2L)).thenReturn(joiner);
+            when(meetingRepository.incrementParticipantCount(1L)).thenReturn(1);
+            when(meetingRepository.getReferenceById(1L)).thenReturn(meeting);
 
             meetingService.joinMeeting(1L);
 
-            assertThat(meeting.getMembers()).hasSize(1);
+            verify(meetingMemberRepository).saveAndFlush(any(MeetingMember.class));
+            verify(meetingRepository, never()).findById(any());
         }
     }
 
@@ -146,8 +191,9 @@ class MeetingServiceTest {
     @DisplayName("모임 참여 실패 - 모임 없음")
     void joinMeeting_notFound() {
         try (MockedStatic<SecurityUtil> util = mockStatic(SecurityUtil.class)) {
-            util.when(SecurityUtil::getLoginEmail).thenReturn("test@test.com");
-            when(meetingRepository.findById(99L)).thenReturn(Optional.empty());
+            util.when(SecurityUtil::getLoginMemberId).thenReturn(2L);
+            when(meetingRepository.incrementParticipantCount(99L)).thenReturn(0);
+            when(meetingRepository.existsById(99L)).thenReturn(false);
 
             assertThatThrownBy(() -> meetingService.joinMeeting(99L))
                     .isInstanceOf(BusinessException.class)
@@ -156,13 +202,52 @@ class MeetingServiceTest {
         }
     }
 
+    @Test
+    @DisplayName("모임 참여 실패 - 정원 초과")
+    void joinMeeting_capacityFull() {
+        try (MockedStatic<SecurityUtil> util = mockStatic(SecurityUtil.class)) {
+            util.when(SecurityUtil::getLoginMemberId).thenReturn(2L);
+            when(meetingRepository.incrementParticipantCount(1L)).thenReturn(0);
+            when(meetingRepository.existsById(1L)).thenReturn(true);
+            when(meetingMemberRepository.existsByMeetingIdAndMemberId(1L, 2L)).thenReturn(false);
+
+            assertThatThrownBy(() -> meetingService.joinMeeting(1L))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                            .isEqualTo(ResponseCode.MTG_CAPACITY_FULL));
+            verify(meetingMemberRepository, never()).saveAndFlush(any());
+        }
+    }
+
+    @Test
+    @DisplayName("모임 참여 실패 - 중복 참여 (유니크 제약 위반)")
+    void joinMeeting_alreadyJoined() {
+        Meeting meeting = createMeeting(createMember());
+
+        try (MockedStatic<SecurityUtil> util = mockStatic(SecurityUtil.class)) {
+            util.when(SecurityUtil::getLoginMemberId).thenReturn(2L);
+            when(memberRepository.getReferenceById(2L)).thenReturn(createJoiner());
+            when(meetingRepository.incrementParticipantCount(1L)).thenReturn(1);
+            when(meetingRepository.getReferenceById(1L)).thenReturn(meeting);
+            when(meetingMemberRepository.saveAndFlush(any(MeetingMember.class)))
+                    .thenThrow(new DataIntegrityViolationException("uk_meeting_member_meeting_member"));
+
+            assertThatThrownBy(() -> meetingService.joinMeeting(1L))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                            .isEqualTo(ResponseCode.MTG_ALREADY_JOINED));
+        }
+    }
+
     @Test
     @DisplayName("모임 상세 조회 성공")
     void getOne_success() {
         Member owner = createMember();
         Meeting meeting = createMeeting(owner);
 
-        when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
+        ReflectionTestUtils.setField(meeting, "participantCount", 4);
+
+        when(meetingRepository.findWithOwnerById(1L)).thenReturn(Optional.of(meeting));
 
         MeetingResponseDTO.getOneDTO result = meetingService.getOne(1L);
 
@@ -170,5 +255,7 @@ class MeetingServiceTest {
         assertThat(result.ownerName()).isEqualTo("테스터");
         assertThat(result.ownerId()).isEqualTo(1L);
         assertThat(result.limitNumberOfPeople()).isEqualTo(10);
+        assertThat(result.numberOfParticipants()).isEqualTo(4);
+        verify(meetingRepository, never()).findById(any());
     }
 }
@@ -5,6 +5,7 @@ import backend.backend.domain.common.BusinessException;
 import backend.backend.domain.common.ResponseCode;
 import backend.backend.domain.dto.memberDto.MemberRequestDto;
 import backend.backend.domain.dto.memberDto.MemberResponseDto;
+import backend.backend.global.util.security.MemberPrincipal;
 import backend.backend.global.util.security.SecurityUtil;
 import backend.backend.repository.MemberRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -16,7 +17,6 @@ import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -50,7 +50,7 @@ class MemberServiceTest {
         MemberRequestDto.SignUpDto dto = new MemberRequestDto.SignUpDto(
                 "test@test.com", "password", "테스터", "😀");
 
-        when(memberRepository.findByEmail("test@test.com")).thenReturn(Optional.empty());
+        when(memberRepository.existsByEmail("test@test.com")).thenReturn(false);
         when(memberRepository.save(any(Member.class))).thenReturn(createMember());
 
         memberService.signUp(dto);
@@ -64,41 +64,37 @@ class MemberServiceTest {
         MemberRequestDto.SignUpDto dto = new MemberRequestDto.SignUpDto(
                 "test@test.com", "password", "테스터", "😀");
 
-        when(memberRepository.findByEmail("test@test.com")).thenReturn(Optional.of(createMember()));
+        when(memberRepository.existsByEmail("test@test.com")).thenReturn(true);
 
         assertThatThrownBy(() -> memberService.signUp(dto))
                 .isInstanceOf(BusinessException.class)
                 .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
                         .isEqualTo(ResponseCode.MBR_ALREADY_EXISTS));
+        verify(passwordEncoder, never()).encode(any());
     }
 
     @Test
-    @DisplayName("내 정보 조회 성공")
+    @DisplayName("내 정보 조회 성공 - 회원 조회 없이 principal 로 응답")
     void getMyInfo_success() {
-        Member member = createMember();
-
         try (MockedStatic<SecurityUtil> util = mockStatic(SecurityUtil.class)) {
-            util.when(SecurityUtil::getLoginEmail).thenReturn("test@test.com");
-            when(memberRepository.findByEmail("test@test.com")).thenReturn(Optional.of(member));
+            util.when(SecurityUtil::getLoginMember)
+                    .thenReturn(new MemberPrincipal(1L, "test@test.com", "", "테스터", "😀"));
 
             MemberResponseDto.InfoDto info = memberService.getMyInfo();
 
+            assertThat(info.id()).isEqualTo(1L);
             assertThat(info.email()).isEqualTo("test@test.com");
             assertThat(info.nickName()).isEqualTo("테스터");
+            verifyNoInteractions(memberRepository);
         }
     }
 
     @Test
-    @DisplayName("내 정보 조회 실패 - 회원 없음")
-    void getMyInfo_notFound() {
-        try (MockedStatic<SecurityUtil> util = mockStatic(SecurityUtil.class)) {
-            util.when(SecurityUtil::getLoginEmail).thenReturn("none@test.com");
-            when(memberRepository.findByEmail("none@test.com")).thenReturn(Optional.empty());
-
-            assertThatThrownBy(() -> memberService.getMyInfo())
-                    .isInstanceOf(BusinessException.class)
-                    .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
-                            .isEqualTo(ResponseCode.MBR_NOT_FOUND));
-        }
+    @DisplayName("내 정보 조회 실패 - 인증 정보 없음")
+    void getMyInfo_unauthenticated() {
+        assertThatThrownBy(() -> memberService.getMyInfo())
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                        .isEqualTo(ResponseCode.AUTH_REQUIRED));
     }
 }
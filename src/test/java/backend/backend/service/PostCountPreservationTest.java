@@ -0,0 +1,67 @@
+package backend.backend.service;
+
+import backend.backend.domain.Member;
+import backend.backend.domain.Post;
+import backend.backend.repository.PostRepository;
+import backend.backend.support.IntegrationTest;
+import backend.backend.support.TestFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글을 읽은 뒤 다른 트랜잭션이 좋아요/댓글 수를 반영해도, 게시글 수정이 조회 시점의 카운트로 덮어쓰지 않는지 검증한다.
+ */
+@IntegrationTest
+class PostCountPreservationTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TestFixture testFixture;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        testFixture.deleteAll();
+    }
+
+    @Test
+    @DisplayName("게시글 수정 - 조회 이후 커밋된 좋아요/댓글 수 증가가 유지됨")
+    void update_keepsCountsCommittedAfterLoad() {
+        Member member = testFixture.saveMember("writer@test.com");
+        Long postId = postRepository.save(new Post("제목", "내용", member)).getId();
+
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+        TransactionTemplate inner = new TransactionTemplate(transactionManager);
+        inner.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // PostService.updatePost 와 같이 게시글을 읽고, 수정이 flush 되기 전에 다른 트랜잭션이 카운트를 반영한다.
+        outer.executeWithoutResult(status -> {
+            Post post = postRepository.findById(postId).orElseThrow();
+            inner.executeWithoutResult(innerStatus -> {
+                postRepository.addCommentCount(postId, 1);
+                jdbcTemplate.update("UPDATE post SET like_count = like_count + ? WHERE post_id = ?", 3, postId);
+            });
+            post.update("수정 제목", "수정 내용");
+        });
+
+        Post updated = postRepository.findById(postId).orElseThrow();
+        assertThat(updated.getTitle()).isEqualTo("수정 제목");
+        assertThat(updated.getCommentCount()).isEqualTo(1);
+        assertThat(updated.getLikeCount()).isEqualTo(3);
+    }
+}
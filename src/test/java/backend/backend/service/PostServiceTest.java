@@ -5,10 +5,12 @@ import backend.backend.domain.Member;
 import backend.backend.domain.Post;
 import backend.backend.domain.common.BusinessException;
 import backend.backend.domain.common.ResponseCode;
+import backend.backend.domain.dto.SliceResponse;
+import backend.backend.domain.dto.commentDto.CommentResponseDto;
 import backend.backend.domain.dto.postDto.PostRequestDto;
 import backend.backend.domain.dto.postDto.PostResponseDto;
-import backend.backend.repository.CommentRepository;
-import backend.backend.repository.LikesRepository;
+import backend.backend.global.util.security.MemberPrincipal;
+import backend.backend.global.util.security.SecurityUtil;
 import backend.backend.repository.MemberRepository;
 import backend.backend.repository.PostRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -16,17 +18,21 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -46,10 +52,19 @@ class PostServiceTest {
     private MemberRepository memberRepository;
 
     @Mock
-    private LikesRepository likesRepository;
+    private CommentService commentService;
 
     @Mock
-    private CommentRepository commentRepository;
+    private ApproximateCountService approximateCountService;
+
+    @Mock
+    private LikeCountAggregator likeCountAggregator;
+
+    @Mock
+    private LikeStatusCache likeStatusCache;
+
+    @Mock
+    private PostDetailCache postDetailCache;
 
     private Member createMember() {
         return Member.builder()
@@ -61,8 +76,12 @@ class PostServiceTest {
     }
 
     private Post createPost(Member member) {
+        return createPost(member, 1L);
+    }
+
+    private Post createPost(Member member, Long id) {
         Post post = Post.builder()
-                .id(1L)
+                .id(id)
                 .title("제목")
                 .content("내용")
                 .member(member)
@@ -76,49 +95,130 @@ class PostServiceTest {
     @DisplayName("게시글 목록 조회 성공")
     void getPostList_success() {
         Member member = createMember();
-        Post post = createPost(member);
+        Post post = Post.builder()
+                .id(1L)
+                .title("제목")
+                .content("내용")
+                .member(member)
+                .comments(new ArrayList<>())
+                .likeCount(3)
+                .commentCount(2)
+                .build();
         Page<Post> postPage = new PageImpl<>(List.of(post));
         Pageable pageable = PageRequest.of(0, 10);
 
-        when(postRepository.findAll(pageable)).thenReturn(postPage);
-        when(likesRepository.countLikesByPostId(1L)).thenReturn(3);
-        when(commentRepository.countCommentByPostId(1L)).thenReturn(2);
+        when(postRepository.findAllWithMember(pageable)).thenReturn(postPage);
+        when(likeCountAggregator.pendingDelta(1L)).thenReturn(2L);
 
         Page<PostResponseDto> result = postService.getPostList(pageable);
 
         assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0).getLikeCount()).isEqualTo(3);
+        assertThat(result.getContent().get(0).getLikeCount()).isEqualTo(5);
         assertThat(result.getContent().get(0).getCommentCount()).isEqualTo(2);
     }
 
     @Test
-    @DisplayName("게시글 작성 성공")
+    @DisplayName("게시글 목록 조회 - 페이지 전체의 좋아요 여부를 한 번에 채움")
+    void getPostList_likedByMe() {
+        Member member = createMember();
+        Page<Post> postPage = new PageImpl<>(List.of(createPost(member, 1L), createPost(member, 2L)));
+        Pageable pageable = PageRequest.of(0, 10);
+
+        when(postRepository.findAllWithMember(pageable)).thenReturn(postPage);
+        when(likeStatusCache.findLikedPostIds(7L, List.of(1L, 2L))).thenReturn(Set.of(2L));
+
+        try (MockedStatic<SecurityUtil> util = mockStatic(SecurityUtil.class)) {
+            util.when(SecurityUtil::findLoginMemberId).thenReturn(Optional.of(7L));
+
+            Page<PostResponseDto> result = postService.getPostList(pageable);
+
+            assertThat(result.getContent()).extracting(PostResponseDto::isLikedByMe).containsExactly(false, true);
+        }
+        verify(likeStatusCache, times(1)).findLikedPostIds(any(), any());
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 - 비로그인이면 좋아요 여부를 조회하지 않음")
+    void getPostList_anonymous() {
+        Member member = createMember();
+        Pageable pageable = PageRequest.of(0, 10);
+
+        when(postRepository.findAllWithMember(pageable)).thenReturn(new PageImpl<>(List.of(createPost(member))));
+
+        Page<PostResponseDto> result = postService.getPostList(pageable);
+
+        assertThat(result.getContent().get(0).isLikedByMe()).isFalse();
+        verifyNoInteractions(likeStatusCache);
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 성공 - count=false, COUNT 쿼리 없이 근사 전체 개수 반환")
+    void getPostSlice_success() {
+        Member member = createMember();
+        Pageable pageable = PageRequest.of(0, 1);
+        Slice<Post> postSlice = new SliceImpl<>(List.of(createPost(member, 2L)), pageable, true);
+
+        when(postRepository.findSliceWithMember(pageable)).thenReturn(postSlice);
+        when(approximateCountService.getPostTotal()).thenReturn(42L);
+
+        SliceResponse<PostResponseDto> result = postService.getPostSlice(pageable);
+
+        assertThat(result.getContent()).extracting(PostResponseDto::getId).containsExactly(2L);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getApproximateTotal()).isEqualTo(42L);
+        verify(postRepository, never()).findAllWithMember(any());
+    }
+
+    @Test
+    @DisplayName("게시글 피드 조회 성공 - 첫 페이지, 다음 커서 반환")
+    void getPostFeed_firstPage() {
+        Member member = createMember();
+        List<Post> posts = List.of(createPost(member, 30L), createPost(member, 29L), createPost(member, 28L));
+
+        when(postRepository.findFeed(PageRequest.ofSize(3))).thenReturn(posts);
+
+        SliceResponse<PostResponseDto> result = postService.getPostFeed(null, 2);
+
+        assertThat(result.getContent()).extracting(PostResponseDto::getId).containsExactly(30L, 29L);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getNextCursor()).isEqualTo("29");
+        verify(postRepository, never()).findAllWithMember(any());
+    }
+
+    @Test
+    @DisplayName("게시글 피드 조회 성공 - 커서 이후 마지막 페이지")
+    void getPostFeed_lastPage() {
+        Member member = createMember();
+        List<Post> posts = List.of(createPost(member, 28L));
+
+        when(postRepository.findFeedBefore(29L, PageRequest.ofSize(3))).thenReturn(posts);
+
+        SliceResponse<PostResponseDto> result = postService.getPostFeed(29L, 2);
+
+        assertThat(result.getContent()).extracting(PostResponseDto::getId).containsExactly(28L);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("게시글 작성 성공 - 회원 조회 없이 참조와 principal 의 작성자 정보 사용")
     void createPost_success() {
         Member member = createMember();
         PostRequestDto dto = new PostRequestDto("제목", "내용");
         Post savedPost = createPost(member);
+        MemberPrincipal writer = new MemberPrincipal(5L, "test@test.com", "", "테스터", "😀");
 
-        when(memberRepository.findByEmail("test@test.com")).thenReturn(Optional.of(member));
+        when(memberRepository.getReferenceById(5L)).thenReturn(member);
         when(postRepository.save(any(Post.class))).thenReturn(savedPost);
 
-        PostResponseDto result = postService.createPost(dto, "test@test.com");
+        PostResponseDto result = postService.createPost(dto, writer);
 
         assertThat(result.getTitle()).isEqualTo("제목");
         assertThat(result.getContent()).isEqualTo("내용");
+        assertThat(result.getNickName()).isEqualTo("테스터");
+        assertThat(result.getEmail()).isEqualTo("test@test.com");
         verify(postRepository).save(any(Post.class));
-    }
-
-    @Test
-    @DisplayName("게시글 작성 실패 - 회원 없음")
-    void createPost_memberNotFound() {
-        PostRequestDto dto = new PostRequestDto("제목", "내용");
-
-        when(memberRepository.findByEmail("none@test.com")).thenReturn(Optional.empty());
-
-        assertThatThrownBy(() -> postService.createPost(dto, "none@test.com"))
-                .isInstanceOf(BusinessException.class)
-                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
-                        .isEqualTo(ResponseCode.MBR_NOT_FOUND));
+        verify(memberRepository, never()).findByEmail(any());
     }
 
     @Test
@@ -133,32 +233,69 @@ class PostServiceTest {
                 .depth(0)
                 .children(new ArrayList<>())
                 .build();
+        Comment childComment = Comment.builder()
+                .id(11L)
+                .content("대댓글")
+                .nickname("테스터")
+                .member(member)
+                .parent(parentComment)
+                .depth(1)
+                .children(new ArrayList<>())
+                .build();
 
         Post post = Post.builder()
                 .id(1L)
                 .title("제목")
                 .content("내용")
                 .member(member)
-                .comments(List.of(parentComment))
+                .comments(List.of(parentComment, childComment))
+                .likeCount(5)
+                .commentCount(2)
                 .build();
         ReflectionTestUtils.setField(post, "createdAt", LocalDateTime.now());
 
-        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
-        when(likesRepository.countLikesByPostId(1L)).thenReturn(5);
-        when(commentRepository.countCommentByPostId(1L)).thenReturn(1);
+        SliceResponse<CommentResponseDto> commentSlice = SliceResponse.of(
+                CommentTreeAssembler.assemble(List.of(parentComment, childComment)), true, "next");
+
+        when(postRepository.findWithMemberById(1L)).thenReturn(Optional.of(post));
+        when(commentService.readCommentPage(1L, null, CommentService.DEFAULT_PAGE_SIZE, CommentService.DEFAULT_REPLY_SIZE))
+                .thenReturn(commentSlice);
+        when(postDetailCache.version(1L)).thenReturn(3L);
 
         PostResponseDto result = postService.getPost(1L);
 
         assertThat(result.getTitle()).isEqualTo("제목");
         assertThat(result.getLikeCount()).isEqualTo(5);
-        assertThat(result.getCommentCount()).isEqualTo(1);
+        assertThat(result.getCommentCount()).isEqualTo(2);
         assertThat(result.getCommentList()).hasSize(1);
+        assertThat(result.getCommentList().get(0).getChildren()).hasSize(1);
+        assertThat(result.getCommentNextCursor()).isEqualTo("next");
+        verify(postDetailCache).put(eq(1L), any(PostResponseDto.class), eq(3L));
+    }
+
+    @Test
+    @DisplayName("게시글 상세 조회 - 캐시 적중 시 DB 를 조회하지 않고 반영 전 좋아요 증감분만 더함")
+    void getPost_cacheHit() {
+        PostResponseDto cached = new PostResponseDto();
+        cached.setId(1L);
+        cached.setTitle("제목");
+        cached.setLikeCount(5);
+        when(postDetailCache.get(1L)).thenReturn(Optional.of(cached));
+        when(likeCountAggregator.pendingDelta(1L)).thenReturn(2L);
+
+        PostResponseDto result = postService.getPost(1L);
+
+        assertThat(result.getTitle()).isEqualTo("제목");
+        assertThat(result.getLikeCount()).isEqualTo(7);
+        verify(postRepository, never()).findWithMemberById(any());
+        verify(commentService, never()).readCommentPage(any(), any(), anyInt(), anyInt());
+        verify(postDetailCache, never()).put(any(), any(), anyLong());
     }
 
     @Test
     @DisplayName("게시글 상세 조회 실패 - 게시글 없음")
     void getPost_notFound() {
-        when(postRepository.findById(99L)).thenReturn(Optional.empty());
+        when(postRepository.findWithMemberById(99L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> postService.getPost(99L))
                 .isInstanceOf(BusinessException.class)
@@ -179,6 +316,7 @@ class PostServiceTest {
 
         assertThat(result.getTitle()).isEqualTo("수정 제목");
         assertThat(result.getContent()).isEqualTo("수정 내용");
+        verify(postDetailCache).evictAfterCommit(1L);
     }
 
     @Test
@@ -229,6 +367,7 @@ class PostServiceTest {
         postService.deletePost(1L, "test@test.com");
 
         verify(postRepository).deleteById(1L);
+        verify(postDetailCache).evictAfterCommit(1L);
     }
 
     @Test
@@ -0,0 +1,210 @@
+package backend.backend.service;
+
+import backend.backend.domain.Comment;
+import backend.backend.domain.Likes;
+import backend.backend.domain.Meeting;
+import backend.backend.domain.Member;
+import backend.backend.domain.Post;
+import backend.backend.domain.dto.commentDto.CommentRequestDto;
+import backend.backend.domain.mapping.MeetingMember;
+import backend.backend.global.metrics.ExpectQueries;
+import backend.backend.global.util.security.MemberPrincipal;
+import backend.backend.repository.CommentRepository;
+import backend.backend.repository.LikesRepository;
+import backend.backend.repository.MeetingMemberRepository;
+import backend.backend.repository.PostRepository;
+import backend.backend.support.IntegrationTest;
+import backend.backend.support.TestFixture;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주요 조회/작성 API 가 실행하는 SQL 문장 수의 상한을 검증한다.
+ * 같은 예산으로 행이 1 개일 때와 50 개일 때를 모두 실행하므로, 행마다 지연 로딩(N+1)이 생기면 50 개 쪽에서 실패한다.
+ */
+@IntegrationTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryBudgetTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private LikesService likesService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private LikesRepository likesRepository;
+
+    @Autowired
+    private MeetingMemberRepository meetingMemberRepository;
+
+    @Autowired
+    private TestFixture testFixture;
+
+    private Member member;
+    private final List<Member> others = new ArrayList<>();
+
+    // 행 개수(1, 50)별 대상 id
+    private final Map<Integer, Long> postWithComments = new HashMap<>();
+    private final Map<Integer, Long> postToComment = new HashMap<>();
+    private final Map<Integer, Long> postToLike = new HashMap<>();
+    private final Map<Integer, Long> meetingWithParticipants = new HashMap<>();
+
+    @BeforeAll
+    void seed() {
+        member = testFixture.saveMember("budget@test.com");
+        for (int i = 0; i < 50; i++) {
+            others.add(testFixture.saveMember("budget" + i + "@test.com"));
+        }
+
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            posts.add(new Post("제목" + i, "내용", others.get(i % others.size())));
+        }
+        postRepository.saveAll(posts);
+        likesRepository.saveAll(List.of(new Likes(member, posts.get(0)), new Likes(member, posts.get(59))));
+
+        for (int size : new int[]{1, 50}) {
+            Post post = postRepository.save(new Post("댓글 " + size, "내용", member));
+            for (int i = 0; i < size; i++) {
+                Comment root = commentRepository.save(new Comment("댓글", "작성자", post, others.get(i)));
+                commentRepository.save(new Comment("대댓글", "작성자", post, others.get(i), root));
+            }
+            postWithComments.put(size, post.getId());
+            postToComment.put(size, saveCommentedPost(size));
+            postToLike.put(size, saveLikedPost(size));
+            meetingWithParticipants.put(size, saveMeeting(size).getId());
+        }
+
+        for (int i = 0; i < 60; i++) {
+            testFixture.saveMeeting(others.get(i % others.size()), "모임" + i, 10);
+        }
+    }
+
+    @AfterAll
+    void cleanUp() {
+        testFixture.deleteAll();
+    }
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                MemberPrincipal.from(member), null, AuthorityUtils.NO_AUTHORITIES));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // 기존 댓글이 size 개 있는 게시글
+    private Long saveCommentedPost(int size) {
+        Post post = postRepository.save(new Post("작성 대상 " + size, "내용", member));
+        for (int i = 0; i < size; i++) {
+            commentRepository.save(new Comment("댓글", "작성자", post, others.get(i)));
+        }
+        return post.getId();
+    }
+
+    // 다른 회원의 좋아요가 size 개 있는 게시글
+    private Long saveLikedPost(int size) {
+        Post post = postRepository.save(new Post("좋아요 대상 " + size, "내용", member));
+        for (int i = 0; i < size; i++) {
+            likesRepository.save(new Likes(others.get(i), post));
+        }
+        return post.getId();
+    }
+
+    // 참여자가 size 명인 모임
+    private Meeting saveMeeting(int size) {
+        Meeting meeting = testFixture.saveMeeting(member, "참여자 " + size, size);
+        for (int i = 0; i < size; i++) {
+            meetingMemberRepository.save(new MeetingMember(meeting, others.get(i)));
+        }
+        return meeting;
+    }
+
+    @ParameterizedTest(name = "size={0}")
+    @ValueSource(ints = {1, 50})
+    @DisplayName("게시글 목록 - 목록, COUNT, 좋아요 필터 적재, 좋아요 IN 조회")
+    @ExpectQueries(max = 4)
+    void getPostList(int size) {
+        assertThat(postService.getPostList(PageRequest.of(0, size)).getContent()).hasSize(size);
+    }
+
+    @ParameterizedTest(name = "comments={0}")
+    @ValueSource(ints = {1, 50})
+    @DisplayName("게시글 상세 - 게시글, 루트 댓글, 대댓글 id, 대댓글, 좋아요 필터 적재, 좋아요 IN 조회")
+    @ExpectQueries(max = 6)
+    void getPost(int size) {
+        assertThat(postService.getPost(postWithComments.get(size)).getCommentList())
+                .hasSize(Math.min(size, CommentService.DEFAULT_PAGE_SIZE));
+    }
+
+    @ParameterizedTest(name = "size={0}")
+    @ValueSource(ints = {1, 50})
+    @DisplayName("모임 목록 - 목록, COUNT")
+    @ExpectQueries(max = 2)
+    void getList(int size) {
+        assertThat(meetingService.getList(PageRequest.of(1, size), null).getContent()).hasSize(size);
+    }
+
+    @ParameterizedTest(name = "participants={0}")
+    @ValueSource(ints = {1, 50})
+    @DisplayName("모임 상세 - 모임과 모임장")
+    @ExpectQueries(max = 1)
+    void getOne(int size) {
+        assertThat(meetingService.getOne(meetingWithParticipants.get(size)).ownerId()).isEqualTo(member.getId());
+    }
+
+    @ParameterizedTest(name = "comments={0}")
+    @ValueSource(ints = {1, 50})
+    @DisplayName("댓글 작성 - 게시글, 시퀀스, INSERT, 댓글 수 UPDATE")
+    @ExpectQueries(max = 4)
+    void createComment(int size) {
+        CommentRequestDto requestDto = new CommentRequestDto();
+        ReflectionTestUtils.setField(requestDto, "content", "새 댓글");
+
+        assertThat(commentService.createComment(postToComment.get(size), 0L, requestDto, MemberPrincipal.from(member))
+                .getContent()).isEqualTo("새 댓글");
+    }
+
+    @ParameterizedTest(name = "likes={0}")
+    @ValueSource(ints = {1, 50})
+    @DisplayName("좋아요 - 조건부 INSERT 한 번")
+    @ExpectQueries(max = 1)
+    void likePost(int size) {
+        assertThat(likesService.likePost(postToLike.get(size), member.getId())).isTrue();
+    }
+}
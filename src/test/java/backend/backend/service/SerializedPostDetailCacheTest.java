@@ -0,0 +1,73 @@
+package backend.backend.service;
+
+import backend.backend.domain.dto.commentDto.CommentResponseDto;
+import backend.backend.domain.dto.postDto.PostResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerializedPostDetailCacheTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final SerializedPostDetailCache postDetailCache = new SerializedPostDetailCache(objectMapper, 60, 1024 * 1024);
+
+    @Test
+    @DisplayName("댓글 트리를 포함한 스냅샷을 직렬화해 보관하고 그대로 복원")
+    void putAndGet() {
+        CommentResponseDto child = new CommentResponseDto();
+        child.setId(2L);
+        child.setContent("대댓글");
+        child.setParentId(1L);
+        CommentResponseDto parent = new CommentResponseDto();
+        parent.setId(1L);
+        parent.setContent("댓글");
+        parent.setChildren(new ArrayList<>(List.of(child)));
+        parent.setReplyCursor("next-reply");
+
+        PostResponseDto dto = new PostResponseDto();
+        dto.setId(1L);
+        dto.setTitle("제목");
+        dto.setCreatedAt(LocalDateTime.of(2024, 7, 1, 12, 0));
+        dto.setLikeCount(5);
+        dto.setCommentList(List.of(parent));
+        dto.setCommentNextCursor("next");
+        postDetailCache.put(1L, dto, postDetailCache.version(1L));
+
+        PostResponseDto result = postDetailCache.get(1L).orElseThrow();
+
+        assertThat(result.getTitle()).isEqualTo("제목");
+        assertThat(result.getCreatedAt()).isEqualTo(LocalDateTime.of(2024, 7, 1, 12, 0));
+        assertThat(result.getLikeCount()).isEqualTo(5);
+        assertThat(result.getCommentNextCursor()).isEqualTo("next");
+        assertThat(result.getCommentList()).hasSize(1);
+        assertThat(result.getCommentList().get(0).getReplyCursor()).isEqualTo("next-reply");
+        assertThat(result.getCommentList().get(0).getChildren())
+                .extracting(CommentResponseDto::getContent).containsExactly("대댓글");
+    }
+
+    @Test
+    @DisplayName("조회 중 무효화되면 무효화 이전에 읽은 스냅샷을 저장하지 않음")
+    void put_afterEvict_isIgnored() {
+        PostResponseDto dto = new PostResponseDto();
+        dto.setId(1L);
+        long version = postDetailCache.version(1L);
+        postDetailCache.evict(1L);
+
+        postDetailCache.put(1L, dto, version);
+
+        assertThat(postDetailCache.get(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("보관하지 않은 게시글은 조회되지 않음")
+    void get_miss() {
+        assertThat(postDetailCache.get(1L)).isEmpty();
+    }
+}
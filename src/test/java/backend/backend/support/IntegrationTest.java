@@ -0,0 +1,22 @@
+package backend.backend.support;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 실제 DB(H2)로 서비스와 리포지토리를 함께 실행하는 통합 테스트.
+ * 설정이 모두 같으므로 이 애너테이션을 붙인 테스트 클래스는 하나의 스프링 컨텍스트를 공유한다.
+ * 데이터는 공유되므로 각 테스트는 끝날 때 TestFixture.deleteAll 로 정리한다.
+ * LOCK_TIMEOUT: 동시성 테스트에서 같은 행 UPDATE 를 기다리는 시간 (H2 기본 1초)
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:integration;LOCK_TIMEOUT=10000")
+@Import(TestFixture.class)
+public @interface IntegrationTest {
+}
@@ -0,0 +1,62 @@
+package backend.backend.support;
+
+import backend.backend.domain.Meeting;
+import backend.backend.domain.Member;
+import backend.backend.domain.enums.MeetingCategory;
+import backend.backend.domain.enums.Week;
+import backend.backend.repository.MeetingRepository;
+import backend.backend.repository.MemberRepository;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalTime;
+
+/**
+ * 통합 테스트(@IntegrationTest)에서 함께 쓰는 데이터 준비/정리.
+ */
+@TestComponent
+public class TestFixture {
+
+    private final MemberRepository memberRepository;
+    private final MeetingRepository meetingRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public TestFixture(MemberRepository memberRepository, MeetingRepository meetingRepository, JdbcTemplate jdbcTemplate) {
+        this.memberRepository = memberRepository;
+        this.meetingRepository = meetingRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Member saveMember(String email) {
+        return memberRepository.save(Member.builder()
+                .email(email)
+                .password("password")
+                .nickName(email)
+                .emoji("😀")
+                .build());
+    }
+
+    public Meeting saveMeeting(Member owner, String title, int limit) {
+        return meetingRepository.save(Meeting.builder()
+                .title(title)
+                .category(MeetingCategory.Study)
+                .week(Week.Mon)
+                .time(LocalTime.of(10, 0))
+                .limitNumberOfPeople(limit)
+                .description("설명")
+                .owner(owner)
+                .build());
+    }
+
+    // 외래 키 순서대로 모든 테이블을 비운다. (대댓글을 먼저 지워 댓글 자기 참조를 끊는다)
+    public void deleteAll() {
+        jdbcTemplate.update("delete from likes");
+        jdbcTemplate.update("delete from comment where parent_comment_id is not null");
+        jdbcTemplate.update("delete from comment");
+        jdbcTemplate.update("delete from meeting_member");
+        jdbcTemplate.update("delete from meeting");
+        jdbcTemplate.update("delete from refresh_token");
+        jdbcTemplate.update("delete from post");
+        jdbcTemplate.update("delete from member");
+    }
+}